@@ -95,4 +95,11 @@ tasks {
     buildSearchableOptions {
         enabled = false
     }
+
+    // performance benchmarks: ./gradlew test --tests "com.intellij.struts2.performance.*" -Pstruts2.performance=true
+    test {
+        project.properties
+            .filterKeys { it.startsWith("struts2.performance") }
+            .forEach { (key, value) -> systemProperty(key, value.toString()) }
+    }
 }
\ No newline at end of file
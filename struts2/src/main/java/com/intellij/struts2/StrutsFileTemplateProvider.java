@@ -18,7 +18,7 @@ import com.intellij.ide.fileTemplates.FileTemplate;
 import com.intellij.ide.fileTemplates.FileTemplateManager;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.project.Project;
-import com.intellij.struts2.facet.ui.StrutsVersionDetector;
+import com.intellij.struts2.facet.StrutsVersionManager;
 import com.intellij.util.text.VersionComparatorUtil;
 import org.jetbrains.annotations.NotNull;
 
@@ -31,7 +31,7 @@ public class StrutsFileTemplateProvider {
   private final boolean my21orNewer;
 
   public StrutsFileTemplateProvider(Module module) {
-    myVersionName = StrutsVersionDetector.detectStrutsVersion(module);
+    myVersionName = StrutsVersionManager.getInstance(module).getVersion();
     my21orNewer = isNewerThan("2.1");
   }
 
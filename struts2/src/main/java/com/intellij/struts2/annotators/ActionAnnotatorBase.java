@@ -18,6 +18,7 @@ import com.intellij.codeInsight.daemon.RelatedItemLineMarkerInfo;
 import com.intellij.codeInsight.daemon.RelatedItemLineMarkerProvider;
 import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
 import com.intellij.icons.AllIcons;
+import com.intellij.ide.util.PsiElementListCellRenderer;
 import com.intellij.navigation.GotoRelatedItem;
 import com.intellij.openapi.editor.markup.GutterIconRenderer;
 import com.intellij.openapi.module.Module;
@@ -28,6 +29,7 @@ import com.intellij.psi.xml.XmlFile;
 import com.intellij.struts2.Struts2Icons;
 import com.intellij.struts2.StrutsBundle;
 import com.intellij.struts2.StrutsIcons;
+import com.intellij.struts2.diagnostic.StrutsPerformanceStats;
 import com.intellij.struts2.dom.struts.action.Action;
 import com.intellij.struts2.dom.struts.action.Result;
 import com.intellij.struts2.dom.struts.model.StrutsManager;
@@ -51,8 +53,7 @@ import java.util.*;
  * @author Yann C&eacute;bron
  */
 public abstract class ActionAnnotatorBase extends RelatedItemLineMarkerProvider {
-  // Map to store path to result name mapping
-  private static final Map<String, String> pathToResultNameMap = new HashMap<>();
+
   private static DomElementListCellRenderer<Action> getActionRenderer() {
     return new DomElementListCellRenderer<>(StrutsBundle.message("annotators.action.no.name")) {
       @Override
@@ -64,46 +65,24 @@ public abstract class ActionAnnotatorBase extends RelatedItemLineMarkerProvider
     };
   }
 
-  // Custom cell renderer for results that shows "resultName -> fileName"
-  private static com.intellij.ide.util.PsiElementListCellRenderer<PsiElement> getResultCellRenderer() {
-    return new com.intellij.ide.util.PsiElementListCellRenderer<PsiElement>() {
-      @Override
-      public String getElementText(PsiElement element) {
-        // Get the file path and try to find the result name
-        String filePath = element.getContainingFile().getVirtualFile().getPath();
-        for (Map.Entry<String, String> entry : pathToResultNameMap.entrySet()) {
-          if (filePath.endsWith(entry.getKey())) {
-            return entry.getValue() + " -> " + element.getContainingFile().getName();
-          }
-        }
-        return element.getContainingFile().getName();
-      }
-
-      @Override
-      protected String getContainerText(PsiElement element, String name) {
-        return " (" + element.getContainingFile().getVirtualFile().getParent().getPath() + ")";
-      }
-    };
-  }
-
-  private static final NotNullFunction<PathReference, Collection<? extends PsiElement>> PATH_REFERENCE_CONVERTER =
-    pathReference -> {
-      final PsiElement resolve = pathReference.resolve();
+  private static final NotNullFunction<ResultTarget, Collection<? extends PsiElement>> RESULT_TARGET_CONVERTER =
+    resultTarget -> {
+      final PsiElement resolve = resultTarget.resolve();
       return resolve != null ? Collections.singleton(resolve) : Collections.emptyList();
     };
 
-  private static final NotNullFunction<PathReference, Collection<? extends GotoRelatedItem>> PATH_REFERENCE_GOTO_RELATED_ITEM_PROVIDER =
-    pathReference -> {
-      final PsiElement resolve = pathReference.resolve();
+  private static final NotNullFunction<ResultTarget, Collection<? extends GotoRelatedItem>> RESULT_TARGET_GOTO_RELATED_ITEM_PROVIDER =
+    resultTarget -> {
+      final PsiElement resolve = resultTarget.resolve();
       return resolve != null ? Collections.singleton(new GotoRelatedItem(resolve) {
         @Override
         public Icon getCustomIcon() {
-          return pathReference.getIcon();
+          return resultTarget.myPathReference.getIcon();
         }
 
         @Override
         public String getCustomName() {
-          return "TEST -> " + pathReference.getPath();
+          return resultTarget.myResultName + " -> " + resultTarget.myPathReference.getPath();
         }
       }) : Collections.emptyList();
     };
@@ -134,6 +113,12 @@ public abstract class ActionAnnotatorBase extends RelatedItemLineMarkerProvider
       return;
     }
 
+    StrutsPerformanceStats.ACTION_LINE_MARKERS.run(() -> collectActionMarkers(element, clazz, lineMarkerInfos));
+  }
+
+  private void collectActionMarkers(final @NotNull PsiElement element,
+                                    final @NotNull PsiClass clazz,
+                                    final @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> lineMarkerInfos) {
     // short exit if Struts Facet not present
     final Module module = ModuleUtilCore.findModuleForPsiElement(clazz);
     if (module == null ||
@@ -203,42 +188,36 @@ public abstract class ActionAnnotatorBase extends RelatedItemLineMarkerProvider
   private static void installActionMethods(final Collection<? super RelatedItemLineMarkerInfo<?>> lineMarkerInfos,
                                            final PsiClass clazz,
                                            final List<? extends Action> actions) {
-    final Map<PsiMethod, Set<PathReference>> pathReferenceMap = new HashMap<>();
+    final Map<PsiMethod, List<ResultTarget>> resultTargetMap = new HashMap<>();
     for (final Action action : actions) {
       final PsiMethod method = action.searchActionMethod();
       if (method == null || !clazz.equals(method.getContainingClass())) {
         continue;
       }
 
-      final Set<PathReference> pathReferences = new HashSet<>();
-      final List<Result> results = action.getResults();
-      for (Result result : results) {
-        PathReference pathReference = result.getValue();
+      final List<ResultTarget> resultTargets = resultTargetMap.computeIfAbsent(method, __ -> new ArrayList<>());
+      for (final Result result : action.getResults()) {
+        final PathReference pathReference = result.getValue();
         if (pathReference != null) {
           String resultName = result.getNameOrDefault();
           if (resultName == null || resultName.trim().isEmpty()) {
             resultName = Result.DEFAULT_NAME; // Use "success" as default
           }
-          // Store the mapping from path to result name
-          pathToResultNameMap.put(pathReference.getPath(), resultName);
-          pathReferences.add(pathReference);
+          resultTargets.add(new ResultTarget(pathReference, resultName));
         }
       }
-
-      Set<PathReference> toStore = pathReferenceMap.computeIfAbsent(method, __ -> new HashSet<>());
-      toStore.addAll(pathReferences);
-      pathReferenceMap.put(method, toStore);
     }
 
-    for (final Map.Entry<PsiMethod, Set<PathReference>> entries : pathReferenceMap.entrySet()) {
-      final NavigationGutterIconBuilder<PathReference> gutterIconBuilder =
-          NavigationGutterIconBuilder.create(AllIcons.Actions.Forward, PATH_REFERENCE_CONVERTER,
-                                             PATH_REFERENCE_GOTO_RELATED_ITEM_PROVIDER)
+    for (final Map.Entry<PsiMethod, List<ResultTarget>> entries : resultTargetMap.entrySet()) {
+      final List<ResultTarget> resultTargets = entries.getValue();
+      final NavigationGutterIconBuilder<ResultTarget> gutterIconBuilder =
+          NavigationGutterIconBuilder.create(AllIcons.Actions.Forward, RESULT_TARGET_CONVERTER,
+                                             RESULT_TARGET_GOTO_RELATED_ITEM_PROVIDER)
                                      .setAlignment(GutterIconRenderer.Alignment.LEFT)
                                      .setPopupTitle(StrutsBundle.message("annotators.action.goto.result"))
-                                     .setTargets(entries.getValue())
+                                     .setTargets(resultTargets)
                                      .setTooltipTitle(StrutsBundle.message("annotators.action.goto.result.tooltip"))
-                                     .setCellRenderer(getResultCellRenderer());
+                                     .setCellRenderer(() -> new ResultCellRenderer(resultTargets));
 
       PsiMethod method = entries.getKey();
       PsiIdentifier identifier = method.getNameIdentifier();
@@ -272,4 +251,54 @@ public abstract class ActionAnnotatorBase extends RelatedItemLineMarkerProvider
     lineMarkerInfos.add(validatorBuilder.createLineMarkerInfo(element));
   }
 
+
+  /**
+   * Result path together with the name of its {@code <result>}.
+   */
+  private static final class ResultTarget {
+
+    private final PathReference myPathReference;
+    private final String myResultName;
+
+    private ResultTarget(@NotNull final PathReference pathReference, @NotNull final String resultName) {
+      myPathReference = pathReference;
+      myResultName = resultName;
+    }
+
+    @Nullable
+    private PsiElement resolve() {
+      return myPathReference.resolve();
+    }
+  }
+
+
+  /**
+   * Shows "resultName -> fileName" for the results of one line marker.
+   */
+  private static final class ResultCellRenderer extends PsiElementListCellRenderer<PsiElement> {
+
+    private final Map<PsiElement, String> myResultNames = new HashMap<>();
+
+    private ResultCellRenderer(@NotNull final List<ResultTarget> resultTargets) {
+      for (final ResultTarget resultTarget : resultTargets) {
+        final PsiElement resolve = resultTarget.resolve();
+        if (resolve != null) {
+          myResultNames.merge(resolve, resultTarget.myResultName,
+                              (names, name) -> names.equals(name) ? names : names + ", " + name);
+        }
+      }
+    }
+
+    @Override
+    public String getElementText(final PsiElement element) {
+      final String fileName = element.getContainingFile().getName();
+      final String resultName = myResultNames.get(element);
+      return resultName != null ? resultName + " -> " + fileName : fileName;
+    }
+
+    @Override
+    protected String getContainerText(final PsiElement element, final String name) {
+      return " (" + element.getContainingFile().getVirtualFile().getParent().getPath() + ")";
+    }
+  }
 }
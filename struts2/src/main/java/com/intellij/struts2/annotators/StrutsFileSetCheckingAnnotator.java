@@ -90,14 +90,11 @@ public class StrutsFileSetCheckingAnnotator implements Annotator {
     final VirtualFile currentVirtualFile = xmlFile.getVirtualFile();
     assert currentVirtualFile != null;
 
-    final Set<StrutsFileSet> allConfigFileSets = strutsManager.getAllConfigFileSets(module);
-    for (final StrutsFileSet configFileSet : allConfigFileSets) {
-      if (configFileSet.hasFile(currentVirtualFile)) {
-        return;
-      }
+    if (strutsManager.isConfiguredInFileSet(module, currentVirtualFile)) {
+      return;
     }
 
-    final boolean fileSetAvailable = allConfigFileSets.size() != 0;
+    final boolean fileSetAvailable = !strutsManager.getAllConfigFileSets(module).isEmpty();
 
     IntentionAction fix;
     if (fileSetAvailable) {
@@ -191,6 +188,7 @@ public class StrutsFileSetCheckingAnnotator implements Annotator {
           @Override
           public PopupStep onChosen(final StrutsFileSet selectedValue, final boolean finalChoice) {
             selectedValue.addFile(file.getVirtualFile());
+            strutsFacet.getConfiguration().setModified();
             ApplicationManager.getApplication()
               .runWriteAction(() -> {
                 Module module = strutsFacet.getModule();
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 The authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.intellij.struts2.diagnostic;
+
+import com.intellij.notification.Notification;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.struts2.StrutsBundle;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Internal action writing {@link StrutsPerformanceStats} to the log directory and resetting them.
+ */
+final class DumpPerformanceStatsAction extends AnAction implements DumbAware {
+
+  private static final Logger LOG = Logger.getInstance(DumpPerformanceStatsAction.class);
+
+  @Override
+  public void actionPerformed(@NotNull final AnActionEvent e) {
+    final String report = StrutsPerformanceStats.dump();
+    StrutsPerformanceStats.reset();
+    LOG.info("Struts 2 performance statistics:\n" + report);
+
+    final Path file = Path.of(PathManager.getLogPath(), "struts2-performance-" + System.currentTimeMillis() + ".txt");
+    String message;
+    NotificationType type = NotificationType.INFORMATION;
+    try {
+      Files.createDirectories(file.getParent());
+      Files.writeString(file, report, StandardCharsets.UTF_8);
+      message = StrutsBundle.message("diagnostic.performance.dumped", file.toString());
+    }
+    catch (IOException ex) {
+      LOG.warn("cannot write " + file, ex);
+      message = StrutsBundle.message("diagnostic.performance.dump.failed", ex.getMessage());
+      type = NotificationType.WARNING;
+    }
+
+    new Notification("Struts 2", StrutsBundle.message("diagnostic.performance.title"), message, type)
+      .notify(e.getProject());
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 The authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.intellij.struts2.diagnostic;
+
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Always-on, low overhead timers for hot paths of the plugin.
+ * <p/>
+ * Each {@link Timer} records call count, total/max time, a coarse latency histogram and (optionally) cache hits/misses.
+ */
+public final class StrutsPerformanceStats {
+
+  private static final List<Timer> ourTimers = Collections.synchronizedList(new ArrayList<>());
+
+  public static final Timer MODEL_BUILD = register("model.build");
+  public static final Timer CONSTANTS_RESOLVE = register("constants.resolve");
+  public static final Timer ACTION_LINK_REFERENCES = register("references.action.link");
+  public static final Timer JS_ACTION_LINK_REFERENCES = register("references.action.link.js");
+  public static final Timer ACTION_LINE_MARKERS = register("line.markers.action");
+
+  /**
+   * Upper bounds (exclusive, in ms) of histogram buckets, last bucket collects everything above.
+   */
+  private static final long[] BUCKET_BOUNDS_MS = {1, 10, 100, 1000};
+
+  private StrutsPerformanceStats() {
+  }
+
+  @NotNull
+  private static Timer register(@NotNull @NonNls final String name) {
+    final Timer timer = new Timer(name);
+    ourTimers.add(timer);
+    return timer;
+  }
+
+  /**
+   * Resets all timers.
+   */
+  public static void reset() {
+    for (final Timer timer : getTimers()) {
+      timer.reset();
+    }
+  }
+
+  @NotNull
+  public static List<Timer> getTimers() {
+    synchronized (ourTimers) {
+      return new ArrayList<>(ourTimers);
+    }
+  }
+
+  /**
+   * Dumps all timers in human readable form.
+   *
+   * @return Report.
+   */
+  @NotNull
+  public static String dump() {
+    final StringBuilder sb = new StringBuilder();
+    sb.append(String.format("%-28s %10s %12s %10s %10s %10s  %s%n",
+                            "timer", "calls", "total(ms)", "avg(ms)", "max(ms)", "hit rate", "histogram (<1/<10/<100/<1000/>=1000 ms)"));
+    for (final Timer timer : getTimers()) {
+      sb.append(timer).append('\n');
+    }
+    return sb.toString();
+  }
+
+
+  public static final class Timer {
+
+    private final String myName;
+
+    private final LongAdder myCount = new LongAdder();
+    private final LongAdder myTotalNanos = new LongAdder();
+    private final AtomicLong myMaxNanos = new AtomicLong();
+    private final LongAdder[] myBuckets = new LongAdder[BUCKET_BOUNDS_MS.length + 1];
+
+    private final LongAdder myHits = new LongAdder();
+    private final LongAdder myMisses = new LongAdder();
+
+    private Timer(@NotNull final String name) {
+      myName = name;
+      for (int i = 0; i < myBuckets.length; i++) {
+        myBuckets[i] = new LongAdder();
+      }
+    }
+
+    @NotNull
+    public String getName() {
+      return myName;
+    }
+
+    public <T> T compute(@NotNull final Supplier<T> supplier) {
+      final long start = System.nanoTime();
+      try {
+        return supplier.get();
+      }
+      finally {
+        record(System.nanoTime() - start);
+      }
+    }
+
+    public void run(@NotNull final Runnable runnable) {
+      final long start = System.nanoTime();
+      try {
+        runnable.run();
+      }
+      finally {
+        record(System.nanoTime() - start);
+      }
+    }
+
+    public void hit() {
+      myHits.increment();
+    }
+
+    public void miss() {
+      myMisses.increment();
+    }
+
+    public void record(final long nanos) {
+      myCount.increment();
+      myTotalNanos.add(nanos);
+      myMaxNanos.accumulateAndGet(nanos, Math::max);
+
+      final long millis = nanos / 1_000_000;
+      int bucket = 0;
+      while (bucket < BUCKET_BOUNDS_MS.length && millis >= BUCKET_BOUNDS_MS[bucket]) {
+        bucket++;
+      }
+      myBuckets[bucket].increment();
+    }
+
+    public long getCount() {
+      return myCount.sum();
+    }
+
+    public long getTotalNanos() {
+      return myTotalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+      return myMaxNanos.get();
+    }
+
+    /**
+     * @return Cache hit rate, {@code -1} if no hits/misses were recorded.
+     */
+    public double getHitRate() {
+      final long hits = myHits.sum();
+      final long total = hits + myMisses.sum();
+      return total == 0 ? -1 : (double)hits / total;
+    }
+
+    private void reset() {
+      myCount.reset();
+      myTotalNanos.reset();
+      myMaxNanos.set(0);
+      myHits.reset();
+      myMisses.reset();
+      for (final LongAdder bucket : myBuckets) {
+        bucket.reset();
+      }
+    }
+
+    @Override
+    public String toString() {
+      final long count = getCount();
+      final double totalMillis = getTotalNanos() / 1_000_000d;
+      final double hitRate = getHitRate();
+
+      final StringBuilder histogram = new StringBuilder();
+      for (final LongAdder bucket : myBuckets) {
+        if (histogram.length() > 0) {
+          histogram.append('/');
+        }
+        histogram.append(bucket.sum());
+      }
+
+      return String.format("%-28s %10d %12.2f %10.3f %10.2f %10s  %s",
+                           myName, count, totalMillis,
+                           count == 0 ? 0d : totalMillis / count,
+                           getMaxNanos() / 1_000_000d,
+                           hitRate < 0 ? "-" : String.format("%.1f%%", hitRate * 100),
+                           histogram);
+    }
+  }
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright 2026 The authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.intellij.struts2.dom.inspection;
+
+import com.intellij.facet.ProjectFacetManager;
+import com.intellij.ide.impl.ProjectUtil;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ApplicationStarter;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.pointers.VirtualFilePointer;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.xml.XmlElement;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.struts2.dom.struts.StrutsRoot;
+import com.intellij.struts2.dom.struts.model.StrutsManager;
+import com.intellij.struts2.dom.validator.ValidatorManager;
+import com.intellij.struts2.dom.validator.Validators;
+import com.intellij.struts2.facet.StrutsFacet;
+import com.intellij.struts2.facet.ui.StrutsFileSet;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.xml.DomElement;
+import com.intellij.util.xml.DomFileElement;
+import com.intellij.util.xml.DomManager;
+import com.intellij.util.xml.highlighting.BasicDomElementsInspection;
+import com.intellij.util.xml.highlighting.DomElementAnnotationsManager;
+import com.intellij.util.xml.highlighting.DomElementProblemDescriptor;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Validates all {@code struts.xml} and {@code validation.xml} files of a project from command line.
+ * <p/>
+ * Usage: {@code struts2-validate <projectPath> [--output <report.json>] [--threads <n>]}
+ * <p/>
+ * Runs {@link Struts2ModelInspection}/{@link ValidatorModelInspection} concurrently and writes a JSON report
+ * including per-file timings. Exits with {@code 1} if any problems were found.
+ */
+public final class Struts2BatchValidationStarter implements ApplicationStarter {
+
+  private static final Logger LOG = Logger.getInstance(Struts2BatchValidationStarter.class);
+
+  @NonNls
+  private static final String VALIDATION_XML_SUFFIX = "-validation.xml";
+
+  /**
+   * Opening the project and waiting for indexing/validation must not block the EDT.
+   */
+  @Override
+  public int getRequiredModality() {
+    return NOT_IN_EDT;
+  }
+
+  @Override
+  public void main(@NotNull final List<String> args) {
+    final int exitCode;
+    try {
+      exitCode = run(args);
+    }
+    catch (Throwable t) {
+      LOG.error("Struts 2 batch validation failed", t);
+      System.err.println("Struts 2 batch validation failed: " + t);
+      System.exit(2);
+      return;
+    }
+    System.exit(exitCode);
+  }
+
+  /**
+   * @param args Command line arguments (first is command name).
+   * @return Exit code.
+   */
+  static int run(@NotNull final List<String> args) throws Exception {
+    final Options options = Options.parse(args);
+    if (options == null) {
+      System.err.println("Usage: struts2-validate <projectPath> [--output <report.json>] [--threads <n>]");
+      return 2;
+    }
+
+    ApplicationManager.getApplication().assertIsNonDispatchThread();
+    final Project project = ProjectUtil.openOrImport(Path.of(options.myProjectPath), null, false);
+    if (project == null) {
+      System.err.println("Cannot open project " + options.myProjectPath);
+      return 2;
+    }
+
+    DumbService.getInstance(project).waitForSmartMode();
+    return run(project, options);
+  }
+
+  /**
+   * @param project Opened project (in smart mode).
+   * @param options Parsed options.
+   * @return Exit code.
+   */
+  static int run(@NotNull final Project project, @NotNull final Options options) throws Exception {
+    final boolean problemsFound;
+    if (options.myOutputPath != null) {
+      try (Writer writer = Files.newBufferedWriter(options.myOutputPath, StandardCharsets.UTF_8)) {
+        problemsFound = validateProject(project, options.myProjectPath, options.myThreads, writer);
+      }
+    }
+    else {
+      final StringBuilder report = new StringBuilder();
+      problemsFound = validateProject(project, options.myProjectPath, options.myThreads, report);
+      System.out.print(report);
+    }
+    return problemsFound ? 1 : 0;
+  }
+
+  /**
+   * Validates all files of the given project and writes the JSON report.
+   *
+   * @param project     Project (in smart mode).
+   * @param projectPath Project path for report.
+   * @param threads     Number of threads to use.
+   * @param out         Report output.
+   * @return {@code true} if any problems were found.
+   */
+  static boolean validateProject(@NotNull final Project project,
+                                 @NotNull final String projectPath,
+                                 final int threads,
+                                 @NotNull final Appendable out) throws Exception {
+    final long start = System.nanoTime();
+    final List<FileTask> tasks = ReadAction.compute(() -> collectTasks(project));
+
+    final ExecutorService executor = AppExecutorUtil.createBoundedApplicationPoolExecutor("Struts2 Batch Validator", threads);
+    final List<Future<FileReport>> futures = new ArrayList<>(tasks.size());
+    for (final FileTask task : tasks) {
+      futures.add(executor.submit(() -> ReadAction.nonBlocking(() -> validate(project, task)).executeSynchronously()));
+    }
+
+    final List<FileReport> reports = new ArrayList<>(futures.size());
+    for (final Future<FileReport> future : futures) {
+      reports.add(future.get());
+    }
+    executor.shutdown();
+    final long totalMillis = (System.nanoTime() - start) / 1_000_000;
+
+    writeReport(out, projectPath, threads, totalMillis, reports);
+    return ContainerUtil.exists(reports, report -> !report.myProblems.isEmpty());
+  }
+
+  private static List<FileTask> collectTasks(final Project project) {
+    final PsiManager psiManager = PsiManager.getInstance(project);
+    final StrutsManager strutsManager = StrutsManager.getInstance(project);
+    final ValidatorManager validatorManager = ValidatorManager.getInstance(project);
+
+    final Map<VirtualFile, FileTask> tasks = new LinkedHashMap<>();
+    for (final Module module : ProjectFacetManager.getInstance(project).getModulesWithFacet(StrutsFacet.FACET_TYPE_ID)) {
+
+      for (final StrutsFileSet fileSet : strutsManager.getAllConfigFileSets(module)) {
+        if (fileSet.isRemoved()) {
+          continue;
+        }
+        for (final VirtualFilePointer filePointer : fileSet.getFiles()) {
+          final VirtualFile file = filePointer.getFile();
+          if (file != null) {
+            tasks.putIfAbsent(file, new FileTask(module, file, false));
+          }
+        }
+      }
+
+      ModuleRootManager.getInstance(module).getFileIndex().iterateContent(file -> {
+        if (!file.isDirectory() &&
+            StringUtil.endsWith(file.getName(), VALIDATION_XML_SUFFIX) &&
+            psiManager.findFile(file) instanceof XmlFile xmlFile &&
+            validatorManager.isValidatorsFile(xmlFile)) {
+          tasks.putIfAbsent(file, new FileTask(module, file, true));
+        }
+        return true;
+      });
+    }
+    return new ArrayList<>(tasks.values());
+  }
+
+  private static FileReport validate(final Project project, final FileTask task) {
+    final long start = System.nanoTime();
+
+    final List<Problem> problems = new ArrayList<>();
+    final PsiFile psiFile = PsiManager.getInstance(project).findFile(task.myFile);
+    if (psiFile instanceof XmlFile xmlFile) {
+      if (task.myValidationFile) {
+        problems.addAll(check(xmlFile, Validators.class, new ValidatorModelInspection()));
+      }
+      else {
+        problems.addAll(check(xmlFile, StrutsRoot.class, new Struts2ModelInspection()));
+      }
+    }
+
+    return new FileReport(task, problems, (System.nanoTime() - start) / 1_000_000);
+  }
+
+  private static <T extends DomElement> List<Problem> check(final XmlFile xmlFile,
+                                                            final Class<T> rootClass,
+                                                            final BasicDomElementsInspection<T> inspection) {
+    final DomFileElement<T> fileElement = DomManager.getDomManager(xmlFile.getProject()).getFileElement(xmlFile, rootClass);
+    if (fileElement == null) {
+      return Collections.emptyList();
+    }
+
+    final Document document = PsiDocumentManager.getInstance(xmlFile.getProject()).getDocument(xmlFile);
+    final List<Problem> problems = new ArrayList<>();
+    for (final DomElementProblemDescriptor descriptor :
+      DomElementAnnotationsManager.getInstance(xmlFile.getProject()).checkFileElement(fileElement, inspection, false)) {
+      final XmlElement xmlElement = descriptor.getDomElement().getXmlElement();
+      final int line = document != null && xmlElement != null ?
+                       document.getLineNumber(xmlElement.getTextRange().getStartOffset()) + 1 : -1;
+      problems.add(new Problem(inspection.getShortName(), descriptor.getHighlightSeverity().getName(), line,
+                               descriptor.getDescriptionTemplate()));
+    }
+    return problems;
+  }
+
+  private static void writeReport(final Appendable out,
+                                  final String projectPath,
+                                  final int threads,
+                                  final long totalMillis,
+                                  final List<FileReport> reports) throws IOException {
+    out.append("{\n");
+    out.append("  \"project\": ").append(quote(projectPath)).append(",\n");
+    out.append("  \"threads\": ").append(String.valueOf(threads)).append(",\n");
+    out.append("  \"totalMillis\": ").append(String.valueOf(totalMillis)).append(",\n");
+    out.append("  \"files\": [");
+    for (int i = 0; i < reports.size(); i++) {
+      final FileReport report = reports.get(i);
+      out.append(i == 0 ? "\n" : ",\n");
+      out.append("    {\"path\": ").append(quote(report.myTask.myFile.getPath()))
+        .append(", \"module\": ").append(quote(report.myTask.myModuleName))
+        .append(", \"millis\": ").append(String.valueOf(report.myMillis))
+        .append(", \"problems\": [");
+      for (int j = 0; j < report.myProblems.size(); j++) {
+        final Problem problem = report.myProblems.get(j);
+        out.append(j == 0 ? "\n" : ",\n");
+        out.append("      {\"inspection\": ").append(quote(problem.myInspection))
+          .append(", \"severity\": ").append(quote(problem.mySeverity))
+          .append(", \"line\": ").append(String.valueOf(problem.myLine))
+          .append(", \"message\": ").append(quote(problem.myMessage))
+          .append("}");
+      }
+      out.append(report.myProblems.isEmpty() ? "]}" : "\n    ]}");
+    }
+    out.append(reports.isEmpty() ? "]\n" : "\n  ]\n");
+    out.append("}\n");
+  }
+
+  private static String quote(@Nullable final String value) {
+    return value == null ? "null" : "\"" + StringUtil.escapeStringCharacters(value) + "\"";
+  }
+
+
+  static final class Options {
+
+    private final String myProjectPath;
+    @Nullable
+    private final Path myOutputPath;
+    private final int myThreads;
+
+    private Options(final String projectPath, @Nullable final Path outputPath, final int threads) {
+      myProjectPath = projectPath;
+      myOutputPath = outputPath;
+      myThreads = threads;
+    }
+
+    /**
+     * @param args Command line arguments (first is command name).
+     * @return {@code null} if no project path was given.
+     */
+    @Nullable
+    static Options parse(@NotNull final List<String> args) {
+      String projectPath = null;
+      Path outputPath = null;
+      int threads = Runtime.getRuntime().availableProcessors();
+      for (int i = 1; i < args.size(); i++) {
+        final String arg = args.get(i);
+        if ("--output".equals(arg) && i + 1 < args.size()) {
+          outputPath = Path.of(args.get(++i));
+        }
+        else if ("--threads".equals(arg) && i + 1 < args.size()) {
+          threads = Math.max(1, Integer.parseInt(args.get(++i)));
+        }
+        else if (projectPath == null) {
+          projectPath = arg;
+        }
+      }
+      return projectPath != null ? new Options(projectPath, outputPath, threads) : null;
+    }
+  }
+
+  private static final class FileTask {
+
+    private final String myModuleName;
+    private final VirtualFile myFile;
+    private final boolean myValidationFile;
+
+    private FileTask(final Module module, final VirtualFile file, final boolean validationFile) {
+      myModuleName = module.getName();
+      myFile = file;
+      myValidationFile = validationFile;
+    }
+  }
+
+  private static final class FileReport {
+
+    private final FileTask myTask;
+    private final List<Problem> myProblems;
+    private final long myMillis;
+
+    private FileReport(final FileTask task, final List<Problem> problems, final long millis) {
+      myTask = task;
+      myProblems = problems;
+      myMillis = millis;
+    }
+  }
+
+  private static final class Problem {
+
+    private final String myInspection;
+    private final String mySeverity;
+    private final int myLine;
+    private final String myMessage;
+
+    private Problem(final String inspection, final String severity, final int line, final String message) {
+      myInspection = inspection;
+      mySeverity = severity;
+      myLine = line;
+      myMessage = message;
+    }
+  }
+}
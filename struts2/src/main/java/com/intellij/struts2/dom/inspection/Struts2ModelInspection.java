@@ -39,7 +39,6 @@ import com.intellij.struts2.dom.struts.impl.path.ResultTypeResolver;
 import com.intellij.struts2.dom.struts.impl.path.StrutsResultContributor;
 import com.intellij.struts2.dom.struts.model.StrutsManager;
 import com.intellij.struts2.dom.struts.strutspackage.ResultType;
-import com.intellij.struts2.facet.ui.StrutsFileSet;
 import com.intellij.util.io.URLUtil;
 import com.intellij.util.xml.*;
 import com.intellij.util.xml.highlighting.BasicDomElementsInspection;
@@ -48,7 +47,6 @@ import com.intellij.util.xml.highlighting.DomHighlightingHelper;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Set;
 
 import static com.intellij.codeInspection.options.OptPane.checkbox;
 import static com.intellij.codeInspection.options.OptPane.pane;
@@ -92,12 +90,8 @@ public class Struts2ModelInspection extends BasicDomElementsInspection<StrutsRoo
     final XmlFile xmlFile = strutsRootDomFileElement.getFile();
     final VirtualFile virtualFile = xmlFile.getVirtualFile();
 
-    final Set<StrutsFileSet> fileSets = StrutsManager.getInstance(xmlFile.getProject()).getAllConfigFileSets(module);
-    for (final StrutsFileSet strutsFileSet : fileSets) {
-      if (strutsFileSet.hasFile(virtualFile)) {
-        super.checkFileElement(strutsRootDomFileElement, holder);
-        break;
-      }
+    if (StrutsManager.getInstance(xmlFile.getProject()).isConfiguredInFileSet(module, virtualFile)) {
+      super.checkFileElement(strutsRootDomFileElement, holder);
     }
   }
 
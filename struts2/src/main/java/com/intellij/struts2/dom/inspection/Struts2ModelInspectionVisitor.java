@@ -107,6 +107,11 @@ class Struts2ModelInspectionVisitor implements DomElementVisitor {
       holder.createProblem(strutsPackage.getNamespace(),
                            StrutsBundle.message("dom.highlighting.struts.package.must.start.with.slash"));
     }
+
+    if (strutsPackage.hasCyclicHierarchy()) {
+      holder.createProblem(strutsPackage.getExtends(),
+                           StrutsBundle.message("dom.highlighting.struts.package.cyclic.hierarchy"));
+    }
   }
 
   private void checkExtendableClassConverter(final GenericAttributeValue clazzAttributeValue) {
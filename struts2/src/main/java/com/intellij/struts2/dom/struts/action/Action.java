@@ -60,12 +60,14 @@ public interface Action extends ParamsElement {
 
   @Attribute(value = "method")
   @Convert(ActionMethodConverter.class)
+  @Stubbed
   GenericAttributeValue<PsiMethod> getMethod();
 
 
   // --------------------
   @SubTagList("result")
   @NotNull
+  @Stubbed
   List<Result> getResults();
 
   @SubTagList("interceptor-ref")
@@ -31,6 +31,7 @@ import org.jetbrains.annotations.Nullable;
  * @author Yann C&eacute;bron
  */
 @Convert(StrutsPathReferenceConverter.class)
+@Stubbed
 @Presentation(typeName = "Result", icon = "AllIcons.Vcs.Arrow_right", provider = Struts2PresentationProvider.class)
 public interface Result extends HasResultType, ParamsElement, GenericDomValue<PathReference> {
 
@@ -45,6 +46,7 @@ public interface Result extends HasResultType, ParamsElement, GenericDomValue<Pa
   @Override
   @NameValue(unique = false)
   @Scope(ParentScopeProvider.class)
+  @Stubbed
   GenericAttributeValue<String> getName();
 
   @Nullable
@@ -57,5 +59,6 @@ public interface Result extends HasResultType, ParamsElement, GenericDomValue<Pa
    */
   @Override
   @Convert(ResultTypeResolvingConverter.class)
+  @Stubbed
   GenericAttributeValue<ResultType> getType();
 }
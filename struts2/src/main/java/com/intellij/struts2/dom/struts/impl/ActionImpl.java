@@ -109,7 +109,7 @@ public abstract class ActionImpl implements Action {
       return Collections.emptyList();
     }
 
-    return ActionImplUtil.findActionMethods(actionClass, null);
+    return ActionImplUtil.findActionMethods(actionClass);
   }
 
   @Override
@@ -123,8 +123,7 @@ public abstract class ActionImpl implements Action {
       return null;
     }
 
-    final List<PsiMethod> actionMethods = ActionImplUtil.findActionMethods(actionClass, methodName);
-    return actionMethods.size() == 1 ? actionMethods.get(0) : null;
+    return ActionImplUtil.findActionMethod(actionClass, methodName);
   }
 
   @Override
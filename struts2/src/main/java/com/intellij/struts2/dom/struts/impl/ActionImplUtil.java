@@ -15,24 +15,23 @@
 
 package com.intellij.struts2.dom.struts.impl;
 
+import com.intellij.lang.jvm.JvmLanguage;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtilCore;
-import com.intellij.openapi.util.Condition;
-import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
 import com.intellij.psi.*;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.psi.util.PropertyUtilBase;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.util.SmartList;
-import com.intellij.util.containers.ContainerUtil;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
-import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
+import java.util.*;
 
 /**
  * Helper methods for {@link ActionImpl}.
@@ -46,6 +45,8 @@ final class ActionImplUtil {
 
   /**
    * Does the given path match the Action's path (including support for wildcards and bang notation).
+   * <p/>
+   * Wildcard {@code *} matches any characters except {@code /}, {@code **} matches any characters.
    *
    * @param actionPath Path of Action.
    * @param checkPath  Path to check.
@@ -53,35 +54,93 @@ final class ActionImplUtil {
    */
   static boolean matchesPath(@NotNull @NonNls final String actionPath,
                              @NotNull @NonNls final String checkPath) {
-    // strip everything behind "!"
+    // ignore everything behind "!"
     final int bangIdx = checkPath.indexOf('!');
-    final String strippedCheckPath = bangIdx == -1 ? checkPath : checkPath.substring(0, bangIdx);
+    final int checkPathEnd = bangIdx == -1 ? checkPath.length() : bangIdx;
 
     // do we have any wildcard-markers in our path? no --> exact compare
     if (actionPath.indexOf('*') == -1) {
-      return Objects.equals(strippedCheckPath, actionPath);
+      return actionPath.length() == checkPathEnd && checkPath.startsWith(actionPath);
     }
 
-    try {
-      return Pattern.matches(StringUtil.replace(actionPath, "*", "[^/]*"), strippedCheckPath);
-    }
-    catch (PatternSyntaxException e) {
+    return matchesWildcard(actionPath, 0, checkPath, 0, checkPathEnd);
+  }
+
+  private static boolean matchesWildcard(final String pattern, int patternIdx,
+                                         final String path, int pathIdx, final int pathEnd) {
+    while (patternIdx < pattern.length()) {
+      final char c = pattern.charAt(patternIdx);
+      if (c != '*') {
+        if (pathIdx == pathEnd || path.charAt(pathIdx) != c) {
+          return false;
+        }
+        patternIdx++;
+        pathIdx++;
+        continue;
+      }
+
+      final boolean anyChars = patternIdx + 1 < pattern.length() && pattern.charAt(patternIdx + 1) == '*';
+      final int nextPatternIdx = patternIdx + (anyChars ? 2 : 1);
+
+      // trailing wildcard consumes the remainder
+      if (nextPatternIdx == pattern.length()) {
+        return anyChars || path.lastIndexOf('/', pathEnd - 1) < pathIdx;
+      }
+
+      for (int i = pathIdx; i <= pathEnd; i++) {
+        if (matchesWildcard(pattern, nextPatternIdx, path, i, pathEnd)) {
+          return true;
+        }
+        if (!anyChars && i < pathEnd && path.charAt(i) == '/') {
+          return false;
+        }
+      }
       return false;
     }
+
+    return pathIdx == pathEnd;
   }
 
   /**
    * Returns all suitable action methods for the given Action class.
    *
    * @param actionClass Action class to search for action methods.
-   * @param methodName  (Optional) Method name.
    * @return Methods suitable for action execution.
    */
-  static List<PsiMethod> findActionMethods(@NotNull final PsiClass actionClass,
-                                           @Nullable final String methodName) {
+  static List<PsiMethod> findActionMethods(@NotNull final PsiClass actionClass) {
+    return new SmartList<>(getActionMethodsByName(actionClass).values());
+  }
+
+  /**
+   * Returns the suitable action method with the given name.
+   *
+   * @param actionClass Action class to search for action methods.
+   * @param methodName  Method name.
+   * @return {@code null} if no suitable method was found.
+   */
+  @Nullable
+  static PsiMethod findActionMethod(@NotNull final PsiClass actionClass,
+                                    @NotNull final String methodName) {
+    return getActionMethodsByName(actionClass).get(methodName);
+  }
+
+  private static Map<String, PsiMethod> getActionMethodsByName(@NotNull final PsiClass actionClass) {
+    return CachedValuesManager.getCachedValue(actionClass, () -> {
+      final Project project = actionClass.getProject();
+      return CachedValueProvider.Result.create(
+        computeActionMethods(actionClass),
+        PsiModificationTracker.getInstance(project).forLanguages(language -> language instanceof JvmLanguage),
+        ProjectRootManager.getInstance(project));
+    });
+  }
+
+  /**
+   * @return Name to first suitable method (in {@link PsiClass#getAllMethods()} order, i.e. overriding methods first).
+   */
+  private static Map<String, PsiMethod> computeActionMethods(@NotNull final PsiClass actionClass) {
     final Module module = ModuleUtilCore.findModuleForPsiElement(actionClass);
     if (module == null) {
-      return Collections.emptyList();
+      return Collections.emptyMap();
     }
 
     final GlobalSearchScope scope = GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(module, false);
@@ -91,15 +150,18 @@ final class ActionImplUtil {
     final PsiElementFactory psiElementFactory = JavaPsiFacade.getInstance(actionClass.getProject()).getElementFactory();
     final PsiClassType resultType = psiElementFactory.createTypeByFQClassName("com.opensymphony.xwork2.Result", scope);
 
-    final boolean searchForMethod = methodName != null;
-
-    final List<PsiMethod> actionMethods = new SmartList<>();
-    final PsiMethod[] methods = searchForMethod ? actionClass.findMethodsByName(methodName, true) : actionClass.getAllMethods();
-    for (final PsiMethod psiMethod : methods) {
+    final Map<String, PsiMethod> actionMethods = new LinkedHashMap<>();
+    for (final PsiMethod psiMethod : actionClass.getAllMethods()) {
       if (psiMethod.isConstructor()) {
         continue;
       }
 
+      // do not add methods with same name from super-class
+      final String psiMethodName = psiMethod.getName();
+      if (actionMethods.containsKey(psiMethodName)) {
+        continue;
+      }
+
       // only public non-static concrete methods
       final PsiModifierList modifiers = psiMethod.getModifierList();
       if (!modifiers.hasModifierProperty(PsiModifier.PUBLIC) ||
@@ -114,7 +176,6 @@ final class ActionImplUtil {
       }
 
       // skip "toString()"
-      final String psiMethodName = psiMethod.getName();
       if (Objects.equals(psiMethodName, "toString")) {
         continue;
       }
@@ -130,20 +191,10 @@ final class ActionImplUtil {
       if (type instanceof PsiClassType &&
           (type.equals(stringType) || type.equals(resultType)) ||
           PsiTypes.voidType().equals(type)) {
-
-        // stop on first hit when searching for name
-        if (searchForMethod) {
-          return Collections.singletonList(psiMethod);
-        }
-
-        // do not add methods with same name from super-class
-        final Condition<PsiMethod> nameCondition = method -> psiMethodName.equals(method.getName());
-        if (!ContainerUtil.exists(actionMethods, nameCondition)) {
-          actionMethods.add(psiMethod);
-        }
+        actionMethods.put(psiMethodName, psiMethod);
       }
     }
 
     return actionMethods;
   }
-}
\ No newline at end of file
+}
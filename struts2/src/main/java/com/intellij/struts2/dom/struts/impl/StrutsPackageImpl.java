@@ -15,22 +15,25 @@
 
 package com.intellij.struts2.dom.struts.impl;
 
+import com.intellij.facet.FacetFinder;
 import com.intellij.jam.model.common.BaseImpl;
-import com.intellij.openapi.util.Ref;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.util.CachedValue;
+import com.intellij.openapi.project.Project;
 import com.intellij.psi.util.CachedValueProvider;
 import com.intellij.psi.util.CachedValuesManager;
-import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.psi.xml.XmlTag;
+import com.intellij.struts2.dom.struts.model.StrutsManager;
+import com.intellij.struts2.dom.struts.model.StrutsModel;
 import com.intellij.struts2.dom.struts.strutspackage.DefaultClassRef;
 import com.intellij.struts2.dom.struts.strutspackage.ResultType;
 import com.intellij.struts2.dom.struts.strutspackage.StrutsPackage;
-import com.intellij.struts2.dom.struts.strutspackage.StrutsPackageHierarchyWalker;
-import com.intellij.util.xml.DomUtil;
-import com.intellij.util.xml.GenericAttributeValue;
+import com.intellij.struts2.dom.struts.strutspackage.StrutsPackageHierarchy;
+import com.intellij.struts2.facet.StrutsFacet;
+import com.intellij.util.xml.DomManager;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -41,68 +44,69 @@ public abstract class StrutsPackageImpl extends BaseImpl implements StrutsPackag
   @Override
   @NotNull
   public String searchNamespace() {
-    final Ref<String> result = new Ref<>();
-    final StrutsPackageHierarchyWalker walker = new StrutsPackageHierarchyWalker(this, strutsPackage -> {
-      if (DomUtil.hasXml(strutsPackage.getNamespace())) {
-        result.set(strutsPackage.getNamespace().getStringValue());
-        return false;
-      }
-      return true;
-    });
-    walker.walkUp();
+    return getHierarchy().getNamespace();
+  }
 
-    return result.isNull() ? DEFAULT_NAMESPACE : result.get();
+  @Override
+  @NotNull
+  public List<StrutsPackage> searchPackageHierarchy() {
+    return getHierarchy().getPackages();
+  }
+
+  @Override
+  public boolean hasCyclicHierarchy() {
+    return getHierarchy().isCyclic();
   }
 
   @Override
   @Nullable
   public DefaultClassRef searchDefaultClassRef() {
-    final Ref<DefaultClassRef> result = new Ref<>();
-    final StrutsPackageHierarchyWalker walker = new StrutsPackageHierarchyWalker(this, strutsPackage -> {
-      if (DomUtil.hasXml(strutsPackage.getDefaultClassRef())) {
-        result.set(strutsPackage.getDefaultClassRef());
-        return false;
-      }
-      return true;
-    });
-    walker.walkUp();
-
-    return result.get();
+    return getHierarchy().getDefaultClassRef();
   }
 
-  private CachedValue<ResultType> myCachedDefaultResultType;
-
   @Override
   @Nullable
   public ResultType searchDefaultResultType() {
-    if (myCachedDefaultResultType == null) {
-      final PsiFile containingFile = getContainingFile();
-      if (containingFile == null) {
-        return null;
-      }
-
-      myCachedDefaultResultType = CachedValuesManager.getManager(containingFile.getProject()).createCachedValue(
-        () -> {
-          final Ref<ResultType> result = new Ref<>();
-          final StrutsPackageHierarchyWalker walker =
-            new StrutsPackageHierarchyWalker(this, strutsPackage -> {
-              final List<ResultType> resultTypes = strutsPackage.getResultTypes();
-              for (final ResultType resultType : resultTypes) {
-                final GenericAttributeValue<Boolean> defaultAttribute = resultType.getDefault();
-                if (DomUtil.hasXml(defaultAttribute) &&
-                    defaultAttribute.getValue() == Boolean.TRUE) {
-                  result.set(resultType);
-                  return false;
-                }
-              }
-              return true;
-            });
-          walker.walkUp();
+    return getHierarchy().getDefaultResultType();
+  }
 
-          return CachedValueProvider.Result.createSingleDependency(result.get(), PsiModificationTracker.MODIFICATION_COUNT);
-        }, false);
+  /**
+   * Cached on the {@code <package>} tag, taken from the {@link StrutsModel}'s hierarchies or computed for packages
+   * outside any model.
+   */
+  @NotNull
+  private StrutsPackageHierarchy getHierarchy() {
+    final XmlTag xmlTag = getXmlTag();
+    if (xmlTag == null) {
+      return StrutsPackageHierarchy.create(this);
     }
 
-    return myCachedDefaultResultType.getValue();
+    return CachedValuesManager.getCachedValue(xmlTag, () -> {
+      final XmlFile xmlFile = (XmlFile)xmlTag.getContainingFile();
+      final Project project = xmlFile.getProject();
+      // only capture the tag, see CachedValuesManager#getCachedValue(PsiElement, CachedValueProvider)
+      final StrutsPackage strutsPackage = (StrutsPackage)DomManager.getDomManager(project).getDomElement(xmlTag);
+      assert strutsPackage != null : xmlTag;
+
+      final StrutsModel model = StrutsManager.getInstance(project).getModelByFile(xmlFile);
+      final StrutsPackageHierarchy modelHierarchy = model != null ? model.getPackageHierarchy(strutsPackage) : null;
+      final StrutsPackageHierarchy hierarchy =
+        modelHierarchy != null ? modelHierarchy : StrutsPackageHierarchy.create(strutsPackage);
+
+      // "extends" resolves to packages of all config files in the fileset(s)
+      final List<Object> dependencies = new ArrayList<>();
+      if (model != null) {
+        dependencies.addAll(model.getConfigFiles());
+      }
+      else {
+        dependencies.add(xmlFile);
+      }
+      dependencies.add(FacetFinder.getInstance(project).getAllFacetsOfTypeModificationTracker(StrutsFacet.FACET_TYPE_ID));
+      final StrutsFacet strutsFacet = StrutsFacet.getInstance(xmlFile);
+      if (strutsFacet != null) {
+        dependencies.add(strutsFacet.getConfiguration());
+      }
+      return CachedValueProvider.Result.create(hierarchy, dependencies);
+    });
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 The authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.intellij.struts2.dom.struts.model;
+
+import com.intellij.struts2.dom.struts.action.Action;
+import com.intellij.struts2.dom.struts.strutspackage.StrutsPackage;
+import com.intellij.util.SmartList;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Lookup tables for all Actions of a {@link StrutsModel}, grouped by namespace.
+ * <p/>
+ * Actions with plain names are stored in a name-keyed map, only wildcard actions need to be matched against the path.
+ * Lookup results retain the declaration order of the underlying configuration files.
+ */
+final class StrutsActionIndex {
+
+  private final List<Action> myAllActions = new ArrayList<>();
+  private final Map<Action, Integer> myOrdinals = new HashMap<>();
+
+  private final ActionBucket myGlobalBucket = new ActionBucket();
+  private final Map<String, ActionBucket> myNamespaceBuckets = new HashMap<>();
+
+  StrutsActionIndex(@NotNull final List<StrutsPackage> strutsPackages) {
+    for (final StrutsPackage strutsPackage : strutsPackages) {
+      final List<Action> actions = strutsPackage.getActions();
+      if (actions.isEmpty()) {
+        continue;
+      }
+
+      final ActionBucket namespaceBucket =
+        myNamespaceBuckets.computeIfAbsent(strutsPackage.searchNamespace(), namespace -> new ActionBucket());
+      for (final Action action : actions) {
+        myOrdinals.put(action, myAllActions.size());
+        myAllActions.add(action);
+
+        final String name = action.getName().getRawText();
+        myGlobalBucket.add(action, name);
+        namespaceBucket.add(action, name);
+      }
+    }
+  }
+
+  /**
+   * @return All Actions in declaration order.
+   */
+  @NotNull
+  List<Action> getAllActions() {
+    return Collections.unmodifiableList(myAllActions);
+  }
+
+  /**
+   * @param namespace Namespace, {@code null} for all.
+   * @return All Actions in given namespace in declaration order.
+   */
+  @NotNull
+  List<Action> getActions(@Nullable final String namespace) {
+    final ActionBucket bucket = getBucket(namespace);
+    return bucket == null ? Collections.emptyList() : Collections.unmodifiableList(bucket.myActions);
+  }
+
+  /**
+   * @param path      Action path to match (bang notation is stripped).
+   * @param namespace Namespace, {@code null} for all.
+   * @return Matching Actions in declaration order.
+   */
+  @NotNull
+  List<Action> findActions(@NotNull @NonNls final String path, @Nullable final String namespace) {
+    final ActionBucket bucket = getBucket(namespace);
+    if (bucket == null) {
+      return Collections.emptyList();
+    }
+
+    final int bangIdx = path.indexOf('!');
+    final String strippedPath = bangIdx == -1 ? path : path.substring(0, bangIdx);
+
+    final List<Action> exact = bucket.myExactActions.getOrDefault(strippedPath, Collections.emptyList());
+    if (bucket.myWildcardActions.isEmpty()) {
+      return new SmartList<>(exact);
+    }
+
+    final List<Action> wildcard = new SmartList<>();
+    for (final Action action : bucket.myWildcardActions) {
+      if (action.matchesPath(path)) {
+        wildcard.add(action);
+      }
+    }
+    return merge(exact, wildcard);
+  }
+
+  @Nullable
+  private ActionBucket getBucket(@Nullable final String namespace) {
+    return namespace == null ? myGlobalBucket : myNamespaceBuckets.get(namespace);
+  }
+
+  private List<Action> merge(final List<Action> first, final List<Action> second) {
+    if (first.isEmpty()) {
+      return second;
+    }
+
+    final List<Action> merged = new ArrayList<>(first.size() + second.size());
+    int i = 0;
+    int j = 0;
+    while (i < first.size() && j < second.size()) {
+      if (myOrdinals.get(first.get(i)) < myOrdinals.get(second.get(j))) {
+        merged.add(first.get(i++));
+      }
+      else {
+        merged.add(second.get(j++));
+      }
+    }
+    merged.addAll(first.subList(i, first.size()));
+    merged.addAll(second.subList(j, second.size()));
+    return merged;
+  }
+
+
+  private static final class ActionBucket {
+
+    private final List<Action> myActions = new ArrayList<>();
+    private final Map<String, List<Action>> myExactActions = new HashMap<>();
+    private final List<Action> myWildcardActions = new ArrayList<>();
+
+    private void add(final Action action, @Nullable final String name) {
+      myActions.add(action);
+      if (name == null) {
+        return;
+      }
+
+      if (name.indexOf('*') != -1) {
+        myWildcardActions.add(action);
+      }
+      else {
+        myExactActions.computeIfAbsent(name, s -> new SmartList<>()).add(action);
+      }
+    }
+  }
+}
@@ -18,6 +18,7 @@ package com.intellij.struts2.dom.struts.model;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.UserDataHolder;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.struts2.facet.ui.StrutsFileSet;
@@ -93,4 +94,16 @@ public abstract class StrutsManager {
    */
   @NotNull
   public abstract Set<StrutsFileSet> getAllConfigFileSets(@NotNull final Module module);
+
+  /**
+   * Checks whether the given file is contained in any of the module's file sets.
+   * <p/>
+   * Cached until the facet configuration is modified ({@link com.intellij.struts2.facet.StrutsFacetConfiguration#setModified()})
+   * or VFS structure changes.
+   *
+   * @param module Module.
+   * @param file   File to check.
+   * @return {@code true} if configured in any file set.
+   */
+  public abstract boolean isConfiguredInFileSet(@NotNull final Module module, @Nullable final VirtualFile file);
 }
\ No newline at end of file
@@ -15,10 +15,18 @@
 
 package com.intellij.struts2.dom.struts.model;
 
+import com.intellij.facet.FacetFinder;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtilCore;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.struts2.dom.struts.StrutsRoot;
 import com.intellij.struts2.facet.StrutsFacet;
@@ -28,6 +36,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -36,6 +45,11 @@ import java.util.Set;
  */
 public class StrutsManagerImpl extends StrutsManager {
 
+  /**
+   * Caches URLs of all files in all filesets per module.
+   */
+  private static final Key<CachedValue<Set<String>>> KEY_FILE_SET_URLS = Key.create("STRUTS2_FILE_SET_URLS");
+
   private final StrutsModelFactory myStrutsModelFactory;
 
   public StrutsManagerImpl(final Project project) {
@@ -84,4 +98,26 @@ public class StrutsManagerImpl extends StrutsManager {
     }
     return Collections.emptySet();
   }
-}
+
+  @Override
+  public boolean isConfiguredInFileSet(@NotNull final Module module, @Nullable final VirtualFile file) {
+    if (file == null || module.isDisposed()) {
+      return false;
+    }
+
+    final Project project = module.getProject();
+    final Set<String> fileUrls = CachedValuesManager.getManager(project).getCachedValue(module, KEY_FILE_SET_URLS, () -> {
+      final Set<String> urls = new HashSet<>();
+      for (final StrutsFileSet fileSet : getAllConfigFileSets(module)) {
+        urls.addAll(fileSet.getFileUrls());
+      }
+      final StrutsFacet facet = StrutsFacet.getInstance(module);
+      return CachedValueProvider.Result.create(urls,
+                                               facet != null ? facet.getConfiguration() : ModificationTracker.NEVER_CHANGED,
+                                               VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS,
+                                               FacetFinder.getInstance(project)
+                                                 .getAllFacetsOfTypeModificationTracker(StrutsFacet.FACET_TYPE_ID));
+    }, false);
+    return fileUrls.contains(file.getUrl());
+  }
+}
\ No newline at end of file
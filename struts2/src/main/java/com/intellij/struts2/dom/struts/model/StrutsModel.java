@@ -15,11 +15,14 @@
 
 package com.intellij.struts2.dom.struts.model;
 
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiClass;
 import com.intellij.struts2.dom.struts.StrutsRoot;
 import com.intellij.struts2.dom.struts.action.Action;
+import com.intellij.struts2.dom.struts.action.Result;
 import com.intellij.struts2.dom.struts.strutspackage.InterceptorOrStackBase;
 import com.intellij.struts2.dom.struts.strutspackage.StrutsPackage;
+import com.intellij.struts2.dom.struts.strutspackage.StrutsPackageHierarchy;
 import com.intellij.util.Processor;
 import com.intellij.util.xml.model.DomModel;
 import org.jetbrains.annotations.NonNls;
@@ -52,6 +55,15 @@ public interface StrutsModel extends DomModel<StrutsRoot> {
   @NotNull
   List<StrutsPackage> getStrutsPackages();
 
+  /**
+   * Gets the linearized {@code extends} hierarchy of the given package.
+   *
+   * @param strutsPackage Package of this model.
+   * @return {@code null} if package does not belong to this model.
+   */
+  @Nullable
+  StrutsPackageHierarchy getPackageHierarchy(@NotNull StrutsPackage strutsPackage);
+
   /**
    * Get all {@link com.intellij.struts2.dom.struts.strutspackage.Interceptor}/{@link com.intellij.struts2.dom.struts.strutspackage.InterceptorStack}s.
    *
@@ -97,4 +109,13 @@ public interface StrutsModel extends DomModel<StrutsRoot> {
 
   boolean processActions(Processor<Action> processor);
 
+  /**
+   * Gets all {@code <action>} results resolving to the given view file (JSP, FreeMarker, Velocity, ...).
+   *
+   * @param viewFile View file.
+   * @return List of all Results, the enclosing Action is their parent element.
+   */
+  @NotNull
+  List<Result> findResultsForView(@NotNull VirtualFile viewFile);
+
 }
\ No newline at end of file
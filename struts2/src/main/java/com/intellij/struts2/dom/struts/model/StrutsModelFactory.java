@@ -23,22 +23,27 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
 import com.intellij.psi.xml.XmlFile;
+import com.intellij.struts2.diagnostic.StrutsPerformanceStats;
 import com.intellij.struts2.dom.struts.StrutsRoot;
 import com.intellij.struts2.facet.ui.StrutsFileSet;
+import com.intellij.util.containers.ContainerUtil;
 import com.intellij.util.xml.DomFileElement;
 import com.intellij.util.xml.model.impl.DomModelFactory;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.LinkedHashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 /**
  * @author Yann C&eacute;bron
  */
 class StrutsModelFactory extends DomModelFactory<StrutsRoot, StrutsModel, PsiElement> {
 
+  /**
+   * Models are shared between all modules using the same (ordered) set of files.
+   */
+  private final Map<List<XmlFile>, StrutsModel> myInternedModels = ContainerUtil.createConcurrentWeakValueMap();
+
   protected StrutsModelFactory(final Project project) {
     super(StrutsRoot.class, project, "struts2");
   }
@@ -72,12 +77,7 @@ class StrutsModelFactory extends DomModelFactory<StrutsRoot, StrutsModel, PsiEle
         }
       }
       if (!files.isEmpty()) {
-        final DomFileElement<StrutsRoot> element = createMergedModelRoot(files);
-        final StrutsModel model;
-        if (element != null) {
-          model = new StrutsModelImpl(element, files);
-          models.add(model);
-        }
+        ContainerUtil.addIfNotNull(models, getOrCreateModel(files, null));
       }
     }
 
@@ -89,6 +89,37 @@ class StrutsModelFactory extends DomModelFactory<StrutsRoot, StrutsModel, PsiEle
                                             @NotNull final DomFileElement<StrutsRoot> strutsRootDomFileElement,
                                             final StrutsModel strutsModel,
                                             final Module module) {
-    return new StrutsModelImpl(strutsRootDomFileElement, xmlFiles);
+    return getOrCreateModel(xmlFiles, strutsRootDomFileElement);
+  }
+
+  /**
+   * Returns the shared model for the given files, creating it if necessary.
+   *
+   * @param files                    Files.
+   * @param strutsRootDomFileElement Merged root (if already created).
+   * @return {@code null} if merged root could not be created.
+   */
+  @Nullable
+  private StrutsModel getOrCreateModel(@NotNull final Set<XmlFile> files,
+                                       @Nullable final DomFileElement<StrutsRoot> strutsRootDomFileElement) {
+    final List<XmlFile> key = List.copyOf(files);
+    final StrutsModel existing = myInternedModels.get(key);
+    if (existing != null && ContainerUtil.and(key, XmlFile::isValid)) {
+      StrutsPerformanceStats.MODEL_BUILD.hit();
+      return existing;
+    }
+
+    StrutsPerformanceStats.MODEL_BUILD.miss();
+    return StrutsPerformanceStats.MODEL_BUILD.compute(() -> {
+      final DomFileElement<StrutsRoot> element =
+        strutsRootDomFileElement != null ? strutsRootDomFileElement : createMergedModelRoot(files);
+      if (element == null) {
+        return null;
+      }
+
+      final StrutsModel model = new StrutsModelImpl(element, files);
+      myInternedModels.put(key, model);
+      return model;
+    });
   }
 }
\ No newline at end of file
@@ -15,26 +15,46 @@
 
 package com.intellij.struts2.dom.struts.model;
 
-import com.intellij.openapi.util.Comparing;
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.lang.xml.XMLLanguage;
+import com.intellij.openapi.paths.PathReference;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.struts2.dom.struts.StrutsRoot;
 import com.intellij.struts2.dom.struts.action.Action;
+import com.intellij.struts2.dom.struts.action.Result;
+import com.intellij.struts2.dom.struts.strutspackage.DefaultClassRef;
 import com.intellij.struts2.dom.struts.strutspackage.Interceptor;
 import com.intellij.struts2.dom.struts.strutspackage.InterceptorOrStackBase;
 import com.intellij.struts2.dom.struts.strutspackage.InterceptorStack;
 import com.intellij.struts2.dom.struts.strutspackage.StrutsPackage;
+import com.intellij.struts2.dom.struts.strutspackage.StrutsPackageHierarchy;
 import com.intellij.util.Function;
 import com.intellij.util.NotNullFunction;
 import com.intellij.util.Processor;
 import com.intellij.util.SmartList;
 import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.containers.MultiMap;
 import com.intellij.util.xml.DomFileElement;
+import com.intellij.util.xml.DomUtil;
+import com.intellij.util.xml.GenericAttributeValue;
 import com.intellij.util.xml.model.impl.DomModelImpl;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Set;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
@@ -51,9 +71,89 @@ class StrutsModelImpl extends DomModelImpl<StrutsRoot> implements StrutsModel {
   private static final Function<StrutsRoot, Collection<? extends StrutsPackage>> STRUTS_PACKAGE_COLLECTOR =
     strutsRoot -> strutsRoot.getPackages();
 
+  private final CachedValue<StrutsActionIndex> myActionIndex;
+
+  /**
+   * Package to its {@code extends} hierarchy, {@code extends} resolves within this model only.
+   */
+  private final CachedValue<Map<StrutsPackage, StrutsPackageHierarchy>> myPackageHierarchies;
+
+  /**
+   * Action class FQN to Actions using it (including inherited {@code default-class-ref}).
+   */
+  private final CachedValue<MultiMap<String, Action>> myActionsByClass;
+
+  /**
+   * View file to Action results resolving to it.
+   */
+  private final CachedValue<MultiMap<VirtualFile, Result>> myResultsByView;
+
   StrutsModelImpl(@NotNull final DomFileElement<StrutsRoot> strutsRootDomFileElement,
                   @NotNull final Set<XmlFile> xmlFiles) {
     super(strutsRootDomFileElement, xmlFiles);
+
+    final Project project = strutsRootDomFileElement.getManager().getProject();
+    final CachedValuesManager cachedValuesManager = CachedValuesManager.getManager(project);
+    myActionIndex = cachedValuesManager.createCachedValue(
+      () -> CachedValueProvider.Result.create(new StrutsActionIndex(getStrutsPackages()), getConfigFiles().toArray()),
+      false);
+    myPackageHierarchies = cachedValuesManager.createCachedValue(
+      () -> CachedValueProvider.Result.create(StrutsPackageHierarchy.build(getStrutsPackages()), getConfigFiles().toArray()),
+      false);
+    myActionsByClass = cachedValuesManager.createCachedValue(() -> {
+      final MultiMap<String, Action> actionsByClass = new MultiMap<>();
+      boolean contributedClasses = false;
+      for (final Action action : myActionIndex.getValue().getAllActions()) {
+        final PsiClass actionClass = action.searchActionClass();
+        final String qualifiedName = actionClass != null ? actionClass.getQualifiedName() : null;
+        if (qualifiedName != null) {
+          actionsByClass.putValue(qualifiedName, action);
+          contributedClasses |= isContributedActionClass(action, qualifiedName);
+        }
+      }
+
+      final List<Object> dependencies = new ArrayList<>(getConfigFiles());
+      dependencies.add(PsiModificationTracker.getInstance(project).forLanguage(JavaLanguage.INSTANCE));
+      dependencies.add(ProjectRootManager.getInstance(project));
+      // Spring bean names are declared in XML outside our config files
+      if (contributedClasses) {
+        dependencies.add(PsiModificationTracker.getInstance(project).forLanguage(XMLLanguage.INSTANCE));
+      }
+      return CachedValueProvider.Result.create(actionsByClass, dependencies);
+    }, false);
+    myResultsByView = cachedValuesManager.createCachedValue(() -> {
+      final MultiMap<VirtualFile, Result> resultsByView = new MultiMap<>();
+      for (final Action action : myActionIndex.getValue().getAllActions()) {
+        for (final Result result : action.getResults()) {
+          final PathReference pathReference = result.getValue();
+          final PsiElement target = pathReference != null ? pathReference.resolve() : null;
+          final VirtualFile viewFile = target instanceof PsiFile ? ((PsiFile)target).getVirtualFile() : null;
+          if (viewFile != null) {
+            resultsByView.putValue(viewFile, result);
+          }
+        }
+      }
+
+      // result paths depend on configuration and (web) roots only, not on the view files' contents
+      final List<Object> dependencies = new ArrayList<>(getConfigFiles());
+      dependencies.add(PsiModificationTracker.getInstance(project).forLanguage(XMLLanguage.INSTANCE));
+      dependencies.add(VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS);
+      dependencies.add(ProjectRootManager.getInstance(project));
+      return CachedValueProvider.Result.create(resultsByView, dependencies);
+    }, false);
+  }
+
+  /**
+   * @return {@code true} if the action class is not given by its FQN, but e.g. as Spring bean name.
+   */
+  private static boolean isContributedActionClass(final Action action, final String qualifiedName) {
+    final GenericAttributeValue<PsiClass> actionClass = action.getActionClass();
+    if (DomUtil.hasXml(actionClass)) {
+      return !qualifiedName.equals(actionClass.getStringValue());
+    }
+
+    final DefaultClassRef defaultClassRef = action.getStrutsPackage().searchDefaultClassRef();
+    return defaultClassRef != null && !qualifiedName.equals(defaultClassRef.getDefaultClass().getStringValue());
   }
 
   @Override
@@ -68,6 +168,12 @@ class StrutsModelImpl extends DomModelImpl<StrutsRoot> implements StrutsModel {
     return ContainerUtil.concat(getMergedStrutsRoots(), STRUTS_PACKAGE_COLLECTOR);
   }
 
+  @Override
+  @Nullable
+  public StrutsPackageHierarchy getPackageHierarchy(@NotNull final StrutsPackage strutsPackage) {
+    return myPackageHierarchies.getValue().get(strutsPackage);
+  }
+
   @Override
   @NotNull
   public Set<InterceptorOrStackBase> getAllInterceptorsAndStacks() {
@@ -85,58 +191,39 @@ class StrutsModelImpl extends DomModelImpl<StrutsRoot> implements StrutsModel {
   @NotNull
   public List<Action> findActionsByName(@NotNull @NonNls final String name,
                                         @Nullable @NonNls final String namespace) {
-    return ContainerUtil.findAll(getActionsForNamespace(namespace), action -> action.matchesPath(name));
+    return myActionIndex.getValue().findActions(name, namespace);
   }
 
   @Override
   @NotNull
   public List<Action> findActionsByClass(@NotNull final PsiClass clazz) {
-    return findActionsByClassInner(clazz, false);
-  }
-
-  private List<Action> findActionsByClassInner(final PsiClass clazz,
-                                               final boolean skipOnFirst) {
-    final List<Action> actionResultList = new SmartList<>();
-
-    for (final StrutsPackage strutsPackage : getStrutsPackages()) {
-      for (final Action action : strutsPackage.getActions()) {
-        final PsiClass actionClassValue = action.searchActionClass();
-        if (Comparing.equal(clazz, actionClassValue)) {
-          actionResultList.add(action);
-          if (skipOnFirst) {
-            return actionResultList;
-          }
-        }
-      }
+    final String qualifiedName = clazz.getQualifiedName();
+    if (qualifiedName == null) {
+      return Collections.emptyList();
     }
 
-    return actionResultList;
+    return new SmartList<>(myActionsByClass.getValue().get(qualifiedName));
   }
 
   @Override
   public boolean isActionClass(@NotNull final PsiClass clazz) {
-    return !findActionsByClassInner(clazz, true).isEmpty();
+    final String qualifiedName = clazz.getQualifiedName();
+    return qualifiedName != null && myActionsByClass.getValue().containsKey(qualifiedName);
   }
 
   @Override
   public List<Action> getActionsForNamespace(@Nullable @NonNls final String namespace) {
-    final List<Action> actionResultList = new SmartList<>();
-
-    for (final StrutsPackage strutsPackage : getStrutsPackages()) {
-      if (namespace == null ||
-          Objects.equals(namespace, strutsPackage.searchNamespace())) {
-        actionResultList.addAll(strutsPackage.getActions());
-      }
-    }
-    return actionResultList;
+    return myActionIndex.getValue().getActions(namespace);
   }
 
   @Override
   public boolean processActions(final Processor<Action> processor) {
-    for (final StrutsPackage strutsPackage : getStrutsPackages()) {
-      final List<Action> actions = strutsPackage.getActions();
-      if (!ContainerUtil.process(actions, processor)) return false;
-    }
-    return true;
+    return ContainerUtil.process(myActionIndex.getValue().getAllActions(), processor);
+  }
+
+  @Override
+  @NotNull
+  public List<Result> findResultsForView(@NotNull final VirtualFile viewFile) {
+    return new SmartList<>(myResultsByView.getValue().get(viewFile));
   }
 }
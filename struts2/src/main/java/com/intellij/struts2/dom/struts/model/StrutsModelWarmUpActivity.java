@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 The authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.intellij.struts2.dom.struts.model;
+
+import com.intellij.facet.ProjectFacetManager;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.options.advanced.AdvancedSettings;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.startup.ProjectActivity;
+import com.intellij.struts2.StrutsBundle;
+import com.intellij.struts2.facet.StrutsFacet;
+import com.intellij.struts2.model.constant.StrutsConstantHelper;
+import kotlin.Unit;
+import kotlin.coroutines.Continuation;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Builds combined {@link StrutsModel}, constants and action lookup tables for all Struts modules in background
+ * once indexing has finished, so opening the first JSP/{@code struts.xml} does not pay for it.
+ * <p/>
+ * Can be disabled via advanced setting {@value #SETTING_ID}.
+ */
+public class StrutsModelWarmUpActivity implements ProjectActivity {
+
+  @NonNls
+  static final String SETTING_ID = "struts2.warm.up.models";
+
+  /**
+   * Only schedules the warm-up, so it does not need to suspend.
+   */
+  @Nullable
+  @Override
+  public Object execute(@NotNull final Project project, @NotNull final Continuation<? super Unit> continuation) {
+    if (ApplicationManager.getApplication().isUnitTestMode() ||
+        !AdvancedSettings.getBoolean(SETTING_ID)) {
+      return Unit.INSTANCE;
+    }
+
+    DumbService.getInstance(project).runWhenSmart(() -> {
+      if (project.isDisposed()) {
+        return;
+      }
+
+      new Task.Backgroundable(project, StrutsBundle.message("model.warm.up.progress"), true) {
+        @Override
+        public void run(@NotNull final ProgressIndicator indicator) {
+          warmUp(project, indicator);
+        }
+      }.queue();
+    });
+    return Unit.INSTANCE;
+  }
+
+  private static void warmUp(final Project project, final ProgressIndicator indicator) {
+    final List<Module> modules = ProjectFacetManager.getInstance(project).getModulesWithFacet(StrutsFacet.FACET_TYPE_ID);
+    indicator.setIndeterminate(false);
+
+    for (int i = 0; i < modules.size(); i++) {
+      indicator.checkCanceled();
+
+      final Module module = modules.get(i);
+      indicator.setText2(module.getName());
+      indicator.setFraction((double)i / modules.size());
+
+      ReadAction.nonBlocking(() -> warmUp(module))
+        .inSmartMode(project)
+        .expireWith(module)
+        .wrapProgress(indicator)
+        .executeSynchronously();
+    }
+  }
+
+  private static void warmUp(final Module module) {
+    if (module.isDisposed()) {
+      return;
+    }
+
+    final StrutsModel model = StrutsManager.getInstance(module.getProject()).getCombinedModel(module);
+    if (model == null) {
+      return;
+    }
+
+    // action lookup table (StrutsActionIndex), incl. package hierarchies/namespaces
+    model.getActionsForNamespace(null);
+    // resolved constant values table of the combined model (all constants at once) and cached action extensions
+    StrutsConstantHelper.getActionExtensions(module);
+  }
+}
@@ -0,0 +1,485 @@
+/*
+ * Copyright 2026 The authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.intellij.struts2.dom.struts.model;
+
+import com.intellij.facet.FacetFinder;
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.pointers.VirtualFilePointer;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.psi.xml.XmlTag;
+import com.intellij.struts2.dom.struts.StrutsRoot;
+import com.intellij.struts2.dom.struts.strutspackage.StrutsPackage;
+import com.intellij.struts2.facet.StrutsFacet;
+import com.intellij.struts2.facet.ui.StrutsFileSet;
+import com.intellij.util.SmartList;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.text.CharSequenceReader;
+import com.intellij.util.xml.NanoXmlBuilder;
+import com.intellij.util.xml.NanoXmlUtil;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Indexes {@code <package>}s and their {@code <action>} names of each {@code struts.xml} file.
+ * <p/>
+ * Per-file index (single entry keyed by file), as lookups always go through the configured files of a module.
+ * Allows enumerating all action paths of a module without building the merged {@link StrutsModel}.
+ * Content is parsed from text, no PSI is built.
+ */
+public class StrutsPackageIndex extends SingleEntryFileBasedIndexExtension<List<StrutsPackageIndex.PackageData>> {
+
+  public static final ID<Integer, List<PackageData>> NAME = ID.create("Struts2PackageIndex");
+
+  private static final Key<CachedValue<ActionLookup>> ACTION_LOOKUP_KEY = Key.create("Struts2PackageIndexActionLookup");
+
+  @NonNls
+  private static final String PACKAGE_TAG = "package";
+
+  @NonNls
+  private static final String ACTION_TAG = "action";
+
+  @NotNull
+  @Override
+  public ID<Integer, List<PackageData>> getName() {
+    return NAME;
+  }
+
+  @NotNull
+  @Override
+  public SingleEntryIndexer<List<PackageData>> getIndexer() {
+    return new SingleEntryIndexer<>(false) {
+      @Nullable
+      @Override
+      protected List<PackageData> computeValue(@NotNull final FileContent inputData) {
+        final CharSequence text = inputData.getContentAsText();
+        if (!StringUtil.contains(text, "<" + StrutsRoot.TAG_NAME)) {
+          return null;
+        }
+
+        final PackagesBuilder builder = new PackagesBuilder();
+        NanoXmlUtil.parse(new CharSequenceReader(text), builder);
+        return builder.myPackages.isEmpty() ? null : builder.myPackages;
+      }
+    };
+  }
+
+  @NotNull
+  @Override
+  public DataExternalizer<List<PackageData>> getValueExternalizer() {
+    return new DataExternalizer<>() {
+      @Override
+      public void save(@NotNull final DataOutput out, final List<PackageData> value) throws IOException {
+        DataInputOutputUtil.writeINT(out, value.size());
+        for (final PackageData packageData : value) {
+          IOUtil.writeUTF(out, packageData.myName);
+          out.writeBoolean(packageData.myNamespace != null);
+          if (packageData.myNamespace != null) {
+            IOUtil.writeUTF(out, packageData.myNamespace);
+          }
+          writeStrings(out, packageData.myExtends);
+          writeStrings(out, packageData.myActionNames);
+        }
+      }
+
+      @Override
+      public List<PackageData> read(@NotNull final DataInput in) throws IOException {
+        final int size = DataInputOutputUtil.readINT(in);
+        final List<PackageData> packages = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          final String name = IOUtil.readUTF(in);
+          final String namespace = in.readBoolean() ? IOUtil.readUTF(in) : null;
+          packages.add(new PackageData(name, namespace, readStrings(in), readStrings(in)));
+        }
+        return packages;
+      }
+
+      private static void writeStrings(final DataOutput out, final List<String> strings) throws IOException {
+        DataInputOutputUtil.writeINT(out, strings.size());
+        for (final String string : strings) {
+          IOUtil.writeUTF(out, string);
+        }
+      }
+
+      private static List<String> readStrings(final DataInput in) throws IOException {
+        final int size = DataInputOutputUtil.readINT(in);
+        final List<String> strings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          strings.add(IOUtil.readUTF(in));
+        }
+        return strings;
+      }
+    };
+  }
+
+  @Override
+  public int getVersion() {
+    return 2;
+  }
+
+  @NotNull
+  @Override
+  public FileBasedIndex.InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(XmlFileType.INSTANCE);
+  }
+
+  /**
+   * Returns all actions declared in the configured filesets of the given module.
+   * <p/>
+   * Same order as {@link StrutsModel#processActions} of the combined model: files, packages and actions in declaration order.
+   *
+   * @param module Module.
+   * @return Actions.
+   */
+  @NotNull
+  public static List<IndexedAction> getActions(@NotNull final Module module) {
+    return getActionLookup(module).myActions;
+  }
+
+  /**
+   * Returns all actions with the given name in the given namespace, in declaration order.
+   *
+   * @param module    Module.
+   * @param namespace Effective namespace.
+   * @param name      Action name (exact match, wildcards are not expanded).
+   * @return Actions.
+   */
+  @NotNull
+  public static List<IndexedAction> findActions(@NotNull final Module module,
+                                                @NotNull final String namespace,
+                                                @NotNull final String name) {
+    final Map<String, List<IndexedAction>> actionsByName = getActionLookup(module).myActionsByNamespace.get(namespace);
+    return actionsByName != null ? actionsByName.getOrDefault(name, Collections.emptyList()) : Collections.emptyList();
+  }
+
+  /**
+   * @param module    Module.
+   * @param namespace Effective namespace.
+   * @return {@code true} if any action in the given namespace uses wildcards in its name.
+   */
+  public static boolean hasWildcardActions(@NotNull final Module module, @NotNull final String namespace) {
+    return getActionLookup(module).myWildcardNamespaces.contains(namespace);
+  }
+
+  @NotNull
+  private static ActionLookup getActionLookup(@NotNull final Module module) {
+    final Project project = module.getProject();
+    return CachedValuesManager.getManager(project).getCachedValue(module, ACTION_LOOKUP_KEY, () -> {
+      final Set<VirtualFile> configFiles = getConfigFiles(module);
+      final ActionLookup actionLookup = new ActionLookup(collectActions(project, configFiles));
+
+      final List<Object> dependencies = new ArrayList<>();
+      final PsiManager psiManager = PsiManager.getInstance(project);
+      for (final VirtualFile configFile : configFiles) {
+        ContainerUtil.addIfNotNull(dependencies, psiManager.findFile(configFile));
+      }
+      dependencies.add(VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS);
+      dependencies.add(ProjectRootManager.getInstance(project));
+      dependencies.add(FacetFinder.getInstance(project).getAllFacetsOfTypeModificationTracker(StrutsFacet.FACET_TYPE_ID));
+      final StrutsFacet strutsFacet = StrutsFacet.getInstance(module);
+      if (strutsFacet != null) {
+        dependencies.add(strutsFacet.getConfiguration());
+      }
+      return CachedValueProvider.Result.create(actionLookup, dependencies);
+    }, false);
+  }
+
+  @NotNull
+  private static List<IndexedAction> collectActions(@NotNull final Project project, @NotNull final Set<VirtualFile> configFiles) {
+    final Map<VirtualFile, List<PackageData>> packagesByFile = new LinkedHashMap<>();
+    final Map<String, PackageData> packagesByName = new HashMap<>();
+    for (final VirtualFile configFile : configFiles) {
+      final List<PackageData> packages =
+        ContainerUtil.getFirstItem(FileBasedIndex.getInstance().getFileData(NAME, configFile, project).values());
+      if (packages == null) {
+        continue;
+      }
+
+      packagesByFile.put(configFile, packages);
+      for (final PackageData packageData : packages) {
+        packagesByName.putIfAbsent(packageData.myName, packageData); // "extends" resolves to first declaration
+      }
+    }
+
+    final List<IndexedAction> actions = new ArrayList<>();
+    for (final Map.Entry<VirtualFile, List<PackageData>> entry : packagesByFile.entrySet()) {
+      for (final PackageData packageData : entry.getValue()) {
+        final String namespace = searchNamespace(packageData.myName, packagesByName, new HashSet<>());
+        for (final String actionName : packageData.myActionNames) {
+          actions.add(new IndexedAction(entry.getKey(), packageData.myName,
+                                        namespace != null ? namespace : StrutsPackage.DEFAULT_NAMESPACE, actionName));
+        }
+      }
+    }
+    return actions;
+  }
+
+  /**
+   * Mirrors {@link StrutsPackage#searchNamespace()}, walking up {@code extends} (cycle-safe).
+   */
+  @Nullable
+  private static String searchNamespace(@NotNull final String packageName,
+                                        @NotNull final Map<String, PackageData> packagesByName,
+                                        @NotNull final Set<String> visited) {
+    final PackageData packageData = packagesByName.get(packageName);
+    if (packageData == null || !visited.add(packageName)) {
+      return null;
+    }
+
+    if (packageData.myNamespace != null) {
+      return packageData.myNamespace;
+    }
+
+    for (final String extendsName : packageData.myExtends) {
+      final String namespace = searchNamespace(extendsName, packagesByName, visited);
+      if (namespace != null) {
+        return namespace;
+      }
+    }
+    return null;
+  }
+
+  @NotNull
+  private static Set<VirtualFile> getConfigFiles(@NotNull final Module module) {
+    final Set<VirtualFile> configFiles = new LinkedHashSet<>();
+    for (final StrutsFileSet fileSet : StrutsManager.getInstance(module.getProject()).getAllConfigFileSets(module)) {
+      if (fileSet.isRemoved()) {
+        continue;
+      }
+
+      for (final VirtualFilePointer filePointer : fileSet.getFiles()) {
+        final VirtualFile file = filePointer.isValid() ? filePointer.getFile() : null;
+        if (file != null) {
+          configFiles.add(file);
+        }
+      }
+    }
+    return configFiles;
+  }
+
+
+  /**
+   * All indexed actions of a module, keyed by namespace and name.
+   */
+  private static final class ActionLookup {
+
+    private final List<IndexedAction> myActions;
+    private final Map<String, Map<String, List<IndexedAction>>> myActionsByNamespace = new HashMap<>();
+    private final Set<String> myWildcardNamespaces = new HashSet<>();
+
+    private ActionLookup(@NotNull final List<IndexedAction> actions) {
+      myActions = Collections.unmodifiableList(actions);
+      for (final IndexedAction action : actions) {
+        myActionsByNamespace.computeIfAbsent(action.myNamespace, namespace -> new HashMap<>())
+          .computeIfAbsent(action.myName, name -> new SmartList<>()).add(action);
+        if (StringUtil.containsChar(action.myName, '*')) {
+          myWildcardNamespaces.add(action.myNamespace);
+        }
+      }
+    }
+  }
+
+
+  /**
+   * Indexed data of a single {@code <package>}.
+   */
+  public static final class PackageData {
+
+    private final String myName;
+    @Nullable
+    private final String myNamespace;
+    private final List<String> myExtends;
+    private final List<String> myActionNames;
+
+    private PackageData(@NotNull final String name,
+                        @Nullable final String namespace,
+                        @NotNull final List<String> extendsNames,
+                        @NotNull final List<String> actionNames) {
+      myName = name;
+      myNamespace = namespace;
+      myExtends = extendsNames;
+      myActionNames = actionNames;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) return true;
+      if (!(o instanceof PackageData that)) return false;
+      return myName.equals(that.myName) &&
+             Objects.equals(myNamespace, that.myNamespace) &&
+             myExtends.equals(that.myExtends) &&
+             myActionNames.equals(that.myActionNames);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(myName, myNamespace, myExtends, myActionNames);
+    }
+  }
+
+
+  /**
+   * Collects {@code <package>}/{@code <action>} names from {@code <struts>} root.
+   */
+  private static final class PackagesBuilder implements NanoXmlBuilder {
+
+    private final List<PackageData> myPackages = new ArrayList<>();
+    private final Map<String, String> myAttributes = new HashMap<>();
+    private int myDepth;
+    @Nullable
+    private PackageData myCurrentPackage;
+
+    @Override
+    public void startElement(final String name, final String nsPrefix, final String nsURI, final String systemID, final int lineNr)
+      throws Exception {
+      myDepth++;
+      myAttributes.clear();
+      if (myDepth == 1 && !StrutsRoot.TAG_NAME.equals(name)) {
+        NanoXmlBuilder.stop();
+      }
+    }
+
+    @Override
+    public void addAttribute(final String key, final String nsPrefix, final String nsURI, final String value, final String type) {
+      myAttributes.put(key, value);
+    }
+
+    @Override
+    public void elementAttributesProcessed(final String name, final String nsPrefix, final String nsURI) {
+      if (myDepth == 2 && PACKAGE_TAG.equals(name)) {
+        final String packageName = myAttributes.get("name");
+        if (packageName != null) {
+          final List<String> extendsNames = new ArrayList<>();
+          for (final String extendsName : StringUtil.split(StringUtil.notNullize(myAttributes.get("extends")), ",")) {
+            final String trimmed = extendsName.trim();
+            if (!trimmed.isEmpty()) {
+              extendsNames.add(trimmed);
+            }
+          }
+
+          myCurrentPackage = new PackageData(packageName, myAttributes.get("namespace"), extendsNames, new ArrayList<>());
+          myPackages.add(myCurrentPackage);
+        }
+      }
+      else if (myDepth == 3 && ACTION_TAG.equals(name) && myCurrentPackage != null) {
+        ContainerUtil.addIfNotNull(myCurrentPackage.myActionNames, myAttributes.get("name"));
+      }
+    }
+
+    @Override
+    public void endElement(final String name, final String nsPrefix, final String nsURI) {
+      if (myDepth == 2) {
+        myCurrentPackage = null;
+      }
+      myDepth--;
+    }
+  }
+
+
+  /**
+   * Action declaration found via index.
+   */
+  public static final class IndexedAction {
+
+    private final VirtualFile myFile;
+    private final String myPackageName;
+    private final String myNamespace;
+    private final String myName;
+
+    private IndexedAction(@NotNull final VirtualFile file,
+                          @NotNull final String packageName,
+                          @NotNull final String namespace,
+                          @NotNull final String name) {
+      myFile = file;
+      myPackageName = packageName;
+      myNamespace = namespace;
+      myName = name;
+    }
+
+    /**
+     * @return Declaring file.
+     */
+    @NotNull
+    public VirtualFile getFile() {
+      return myFile;
+    }
+
+    @NotNull
+    public String getPackageName() {
+      return myPackageName;
+    }
+
+    /**
+     * @return Effective namespace.
+     */
+    @NotNull
+    public String getNamespace() {
+      return myNamespace;
+    }
+
+    @NotNull
+    public String getName() {
+      return myName;
+    }
+
+    /**
+     * Locates the {@code <action>} tag in the declaring file.
+     *
+     * @param xmlFile Declaring file.
+     * @return {@code null} if not found (anymore).
+     */
+    @Nullable
+    public XmlTag findActionTag(@NotNull final XmlFile xmlFile) {
+      final XmlTag rootTag = xmlFile.getRootTag();
+      if (rootTag == null) {
+        return null;
+      }
+
+      for (final XmlTag packageTag : rootTag.findSubTags(PACKAGE_TAG)) {
+        if (!myPackageName.equals(packageTag.getAttributeValue("name"))) {
+          continue;
+        }
+
+        for (final XmlTag actionTag : packageTag.findSubTags(ACTION_TAG)) {
+          if (myName.equals(actionTag.getAttributeValue("name"))) {
+            return actionTag;
+          }
+        }
+      }
+      return null;
+    }
+  }
+}
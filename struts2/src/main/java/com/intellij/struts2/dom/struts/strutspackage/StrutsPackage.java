@@ -65,6 +65,21 @@ public interface StrutsPackage extends CommonDomModelElement {
   @NotNull
   String searchNamespace();
 
+  /**
+   * Gets this package followed by all packages it extends (transitively, depth-first), each package only once.
+   *
+   * @return Linearized package hierarchy.
+   */
+  @NotNull
+  List<StrutsPackage> searchPackageHierarchy();
+
+  /**
+   * Returns whether this package is part of an {@code extends} cycle.
+   *
+   * @return {@code true} if cyclic, {@code false} if only extending a package in a cycle.
+   */
+  boolean hasCyclicHierarchy();
+
   // default-XXX tags ------------
 
   DefaultActionRef getDefaultActionRef();
@@ -109,6 +124,7 @@ public interface StrutsPackage extends CommonDomModelElement {
   List<InterceptorStack> getInterceptorStacks();
 
   @SubTagList(value = "action")
+  @Stubbed
   List<Action> getActions();
 
   /**
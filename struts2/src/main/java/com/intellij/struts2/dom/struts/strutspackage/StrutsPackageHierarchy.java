@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 The authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.intellij.struts2.dom.struts.strutspackage;
+
+import com.intellij.util.xml.DomUtil;
+import com.intellij.util.xml.GenericAttributeValue;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Linearized {@code extends} hierarchy of a package with values inherited from the first declaring package.
+ *
+ * @see com.intellij.struts2.dom.struts.model.StrutsModel#getPackageHierarchy(StrutsPackage)
+ */
+public final class StrutsPackageHierarchy {
+
+  private final List<StrutsPackage> myPackages;
+  private final boolean myCyclic;
+  private final String myNamespace;
+  @Nullable
+  private final DefaultClassRef myDefaultClassRef;
+  @Nullable
+  private final ResultType myDefaultResultType;
+
+  private StrutsPackageHierarchy(final List<StrutsPackage> packages, final boolean cyclic) {
+    myPackages = Collections.unmodifiableList(packages);
+    myCyclic = cyclic;
+    myNamespace = computeNamespace(packages);
+    myDefaultClassRef = computeDefaultClassRef(packages);
+    myDefaultResultType = computeDefaultResultType(packages);
+  }
+
+  /**
+   * Builds the hierarchies of all given packages.
+   *
+   * @param strutsPackages Packages of a model.
+   * @return Package to its hierarchy.
+   */
+  @NotNull
+  public static Map<StrutsPackage, StrutsPackageHierarchy> build(@NotNull final Collection<StrutsPackage> strutsPackages) {
+    final Map<StrutsPackage, StrutsPackageHierarchy> hierarchies = new HashMap<>();
+    for (final StrutsPackage strutsPackage : strutsPackages) {
+      hierarchies.put(strutsPackage, create(strutsPackage));
+    }
+    return hierarchies;
+  }
+
+  /**
+   * Builds the hierarchy of a single package not belonging to any model.
+   *
+   * @param strutsPackage Package.
+   * @return Hierarchy.
+   */
+  @NotNull
+  public static StrutsPackageHierarchy create(@NotNull final StrutsPackage strutsPackage) {
+    final Set<StrutsPackage> packages = new LinkedHashSet<>();
+    final boolean cyclic = collectHierarchy(strutsPackage, strutsPackage, packages);
+    return new StrutsPackageHierarchy(new ArrayList<>(packages), cyclic);
+  }
+
+  /**
+   * Collects the given package and all packages it extends (depth-first) into the given set.
+   *
+   * @param start         Package whose hierarchy is collected.
+   * @param strutsPackage Current package.
+   * @param hierarchy     Collected packages (must retain insertion order).
+   * @return {@code true} if {@code start} is reachable from a package it extends, i.e. is part of a cycle.
+   */
+  private static boolean collectHierarchy(@NotNull final StrutsPackage start,
+                                          @NotNull final StrutsPackage strutsPackage,
+                                          @NotNull final Set<StrutsPackage> hierarchy) {
+    if (!hierarchy.add(strutsPackage)) {
+      return strutsPackage.equals(start);
+    }
+
+    boolean cyclic = false;
+    final List<StrutsPackage> extendsList = strutsPackage.getExtends().getValue();
+    if (extendsList != null) {
+      for (final StrutsPackage extendsPackage : extendsList) {
+        if (extendsPackage != null) {
+          cyclic |= collectHierarchy(start, extendsPackage, hierarchy);
+        }
+      }
+    }
+    return cyclic;
+  }
+
+  /**
+   * @return Package itself followed by all packages it extends.
+   */
+  @NotNull
+  public List<StrutsPackage> getPackages() {
+    return myPackages;
+  }
+
+  /**
+   * @return {@code true} if the package itself is part of an {@code extends} cycle.
+   */
+  public boolean isCyclic() {
+    return myCyclic;
+  }
+
+  @NotNull
+  public String getNamespace() {
+    return myNamespace;
+  }
+
+  @Nullable
+  public DefaultClassRef getDefaultClassRef() {
+    return myDefaultClassRef;
+  }
+
+  @Nullable
+  public ResultType getDefaultResultType() {
+    return myDefaultResultType;
+  }
+
+  @NotNull
+  private static String computeNamespace(final List<StrutsPackage> packages) {
+    for (final StrutsPackage strutsPackage : packages) {
+      if (DomUtil.hasXml(strutsPackage.getNamespace())) {
+        final String namespace = strutsPackage.getNamespace().getStringValue();
+        return namespace != null ? namespace : StrutsPackage.DEFAULT_NAMESPACE;
+      }
+    }
+    return StrutsPackage.DEFAULT_NAMESPACE;
+  }
+
+  @Nullable
+  private static DefaultClassRef computeDefaultClassRef(final List<StrutsPackage> packages) {
+    for (final StrutsPackage strutsPackage : packages) {
+      if (DomUtil.hasXml(strutsPackage.getDefaultClassRef())) {
+        return strutsPackage.getDefaultClassRef();
+      }
+    }
+    return null;
+  }
+
+  @Nullable
+  private static ResultType computeDefaultResultType(final List<StrutsPackage> packages) {
+    for (final StrutsPackage strutsPackage : packages) {
+      for (final ResultType resultType : strutsPackage.getResultTypes()) {
+        final GenericAttributeValue<Boolean> defaultAttribute = resultType.getDefault();
+        if (DomUtil.hasXml(defaultAttribute) &&
+            defaultAttribute.getValue() == Boolean.TRUE) {
+          return resultType;
+        }
+      }
+    }
+    return null;
+  }
+}
@@ -17,10 +17,10 @@ package com.intellij.struts2.dom.struts.strutspackage;
 
 import com.intellij.util.Processor;
 
-import java.util.List;
-
 /**
  * Walks StrutsPackage hierarchically via {@code "extends"}.
+ * <p/>
+ * Uses the cached linearized hierarchy from {@link StrutsPackage#searchPackageHierarchy()}.
  *
  * @author Yann C&eacute;bron
  */
@@ -36,24 +36,10 @@ public class StrutsPackageHierarchyWalker {
   }
 
   public void walkUp() {
-    walkPackage(start);
-  }
-
-  private boolean walkPackage(final StrutsPackage startPackage) {
-    if (!processor.process(startPackage)) {
-      return false;
-    }
-
-    final List<StrutsPackage> extendsList = startPackage.getExtends().getValue();
-    if (extendsList == null) {
-      return true;
-    }
-
-    for (StrutsPackage strutsPackage : extendsList) {
-      if (!walkPackage(strutsPackage)) {
-        return false;
+    for (final StrutsPackage strutsPackage : start.searchPackageHierarchy()) {
+      if (!processor.process(strutsPackage)) {
+        return;
       }
     }
-    return true;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 The authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.intellij.struts2.dom.validator;
+
+import com.intellij.ide.highlighter.XmlFileType;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Indexes {@code ClassName[-context]-validation.xml} files by {@code ClassName}, based on file name only.
+ */
+public class ValidationFileIndex extends ScalarIndexExtension<String> {
+
+  public static final ID<String, Void> NAME = ID.create("Struts2ValidationFileIndex");
+
+  @NonNls
+  private static final String VALIDATION_XML_SUFFIX = "-validation.xml";
+
+  @NotNull
+  @Override
+  public ID<String, Void> getName() {
+    return NAME;
+  }
+
+  @NotNull
+  @Override
+  public DataIndexer<String, Void, FileContent> getIndexer() {
+    return inputData -> {
+      final String className = getClassName(inputData.getFileName());
+      return className == null ? Collections.emptyMap() : Collections.singletonMap(className, null);
+    };
+  }
+
+  @NotNull
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @Override
+  public int getVersion() {
+    return 1;
+  }
+
+  @NotNull
+  @Override
+  public FileBasedIndex.InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(XmlFileType.INSTANCE) {
+      @Override
+      public boolean acceptInput(@NotNull final VirtualFile file) {
+        return StringUtil.endsWith(file.getNameSequence(), VALIDATION_XML_SUFFIX);
+      }
+    };
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return false;
+  }
+
+  /**
+   * Returns all files named {@code className[-context]-validation.xml} in the given scope.
+   *
+   * @param className Simple class name.
+   * @param scope     Search scope.
+   * @return Files, not checked for valid content.
+   */
+  @NotNull
+  public static Collection<VirtualFile> getFiles(@NotNull final String className,
+                                                 @NotNull final GlobalSearchScope scope) {
+    return FileBasedIndex.getInstance().getContainingFiles(NAME, className, scope);
+  }
+
+  /**
+   * @param fileName File name.
+   * @return {@code ClassName} part, {@code null} if no validation file name.
+   */
+  static String getClassName(@NotNull final String fileName) {
+    if (!StringUtil.endsWith(fileName, VALIDATION_XML_SUFFIX)) {
+      return null;
+    }
+
+    final int dashIdx = fileName.indexOf('-');
+    return dashIdx > 0 ? fileName.substring(0, dashIdx) : null;
+  }
+}
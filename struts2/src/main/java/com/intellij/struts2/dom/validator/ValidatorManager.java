@@ -53,6 +53,16 @@ public abstract class ValidatorManager {
    */
   public abstract List<ValidatorConfig> getValidators(@NotNull final Module module);
 
+  /**
+   * Finds the validator with the given name, custom validators override default ones.
+   *
+   * @param module Current module to search within.
+   * @param name   Validator name.
+   * @return {@code null} if not found.
+   */
+  @Nullable
+  public abstract ValidatorConfig findValidator(@NotNull final Module module, @NotNull final String name);
+
   /**
    * Locates the validator-config.xml for the given module.
    * <p/>
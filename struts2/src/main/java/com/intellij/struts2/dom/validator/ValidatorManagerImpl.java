@@ -18,9 +18,11 @@ package com.intellij.struts2.dom.validator;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ResourceFileUtil;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.vfs.JarFileSystem;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
 import com.intellij.psi.JavaDirectoryService;
 import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
@@ -30,18 +32,22 @@ import com.intellij.psi.PsiManager;
 import com.intellij.psi.PsiPackage;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.search.PackageScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.psi.util.PsiUtilCore;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.struts2.dom.validator.config.ValidatorConfig;
 import com.intellij.struts2.dom.validator.config.ValidatorsConfig;
-import com.intellij.struts2.facet.ui.StrutsVersionDetector;
+import com.intellij.struts2.facet.StrutsVersionManager;
 import com.intellij.util.containers.ContainerUtil;
 import com.intellij.util.xml.DomFileElement;
 import com.intellij.util.xml.DomManager;
-import com.intellij.util.xml.DomService;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
@@ -58,6 +64,11 @@ public class ValidatorManagerImpl extends ValidatorManager {
   @NonNls
   private static final String VALIDATORS_DEFAULT_XML = "default.xml";
 
+  /**
+   * Caches merged validators per module, depending on the resolved validators.xml/default.xml files only.
+   */
+  private static final Key<CachedValue<ValidatorRegistry>> KEY_VALIDATOR_REGISTRY = Key.create("STRUTS2_VALIDATOR_REGISTRY");
+
   @Override
   public boolean isValidatorsFile(@NotNull final XmlFile xmlFile) {
     return DomManager.getDomManager(xmlFile.getProject()).getFileElement(xmlFile, Validators.class) != null;
@@ -75,10 +86,40 @@ public class ValidatorManagerImpl extends ValidatorManager {
 
   @Override
   public List<ValidatorConfig> getValidators(@NotNull final Module module) {
-    final XmlFile validatorsFile = getValidatorConfigFile(module);
+    return getValidatorRegistry(module).myValidators;
+  }
+
+  @Nullable
+  @Override
+  public ValidatorConfig findValidator(@NotNull final Module module, @NotNull final String name) {
+    return getValidatorRegistry(module).myValidatorsByName.get(name);
+  }
+
+  private static ValidatorRegistry getValidatorRegistry(@NotNull final Module module) {
+    final Project project = module.getProject();
+    return CachedValuesManager.getManager(project).getCachedValue(module, KEY_VALIDATOR_REGISTRY, () -> {
+      final List<Object> dependencies = new ArrayList<>();
+      final ValidatorRegistry registry = new ValidatorRegistry(findValidators(module, dependencies));
+      dependencies.add(VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS);
+      dependencies.add(ProjectRootManager.getInstance(project));
+      return CachedValueProvider.Result.create(registry, dependencies);
+    }, false);
+  }
+
+  /**
+   * @param dependencies Collects all validators.xml/default.xml files used.
+   */
+  private static List<ValidatorConfig> findValidators(@NotNull final Module module,
+                                                      @NotNull final List<Object> dependencies) {
+    // validators.xml without (valid) root element yet must invalidate too
+    ContainerUtil.addIfNotNull(dependencies, findCustomValidatorsFile(module));
+
+    final ValidatorManager validatorManager = getInstance(module.getProject());
+    final XmlFile validatorsFile = validatorManager.getValidatorConfigFile(module);
     if (validatorsFile == null) {
       return Collections.emptyList();
     }
+    dependencies.add(validatorsFile);
 
     final DomFileElement<ValidatorsConfig> validatorsConfigElement = getValidatorsConfigFileElement(validatorsFile);
     if (validatorsConfigElement == null) {
@@ -86,15 +127,15 @@ public class ValidatorManagerImpl extends ValidatorManager {
     }
 
     final List<ValidatorConfig> validatorConfigs = validatorsConfigElement.getRootElement().getValidatorConfigs();
-    if (!isCustomValidatorConfigFile(validatorsFile)) {
+    if (!validatorManager.isCustomValidatorConfigFile(validatorsFile)) {
       return validatorConfigs;
     }
 
     // add validators from default.xml for Struts > 2.0.8
-    final String version = StrutsVersionDetector.detectStrutsVersion(module);
-    if (StringUtil.compareVersionNumbers(version, "2.0.8") == 1) {
+    if (StrutsVersionManager.getInstance(module).isNewerThan("2.0.8")) {
       final XmlFile defaultValidatorFile = findDefaultValidatorsFile(module);
       if (defaultValidatorFile != null) {
+        dependencies.add(defaultValidatorFile);
         final DomFileElement<ValidatorsConfig> fileElement = getValidatorsConfigFileElement(defaultValidatorFile);
         if (fileElement == null) {
           return validatorConfigs;
@@ -114,22 +155,32 @@ public class ValidatorManagerImpl extends ValidatorManager {
   @Override
   @Nullable
   public XmlFile getValidatorConfigFile(@NotNull final Module module) {
-    final Project project = module.getProject();
-    final PsiManager psiManager = PsiManager.getInstance(project);
+    final XmlFile customValidatorsFile = findCustomValidatorsFile(module);
+    if (customValidatorsFile != null &&
+        getValidatorsConfigFileElement(customValidatorsFile) != null) {
+      return customValidatorsFile;
+    }
+
+    return findDefaultValidatorsFile(module);
+  }
 
+  /**
+   * Find {@code validators.xml} in module runtime scope.
+   *
+   * @param module Current module.
+   * @return {@code null} if not found.
+   */
+  @Nullable
+  private static XmlFile findCustomValidatorsFile(final Module module) {
+    final Project project = module.getProject();
     final VirtualFile validatorsVirtualFile =
         ResourceFileUtil.findResourceFileInScope(VALIDATORS_XML, project,
                                                  GlobalSearchScope.moduleRuntimeScope(module, false));
-
-    if (validatorsVirtualFile != null) {
-      final PsiFile file = psiManager.findFile(validatorsVirtualFile);
-      if (file != null &&
-          getValidatorsConfigFileElement((XmlFile) file) != null) {
-        return (XmlFile) file;
-      }
+    if (validatorsVirtualFile == null) {
+      return null;
     }
 
-    return findDefaultValidatorsFile(module);
+    return PsiManager.getInstance(project).findFile(validatorsVirtualFile) instanceof XmlFile xmlFile ? xmlFile : null;
   }
 
   @NotNull
@@ -146,17 +197,21 @@ public class ValidatorManagerImpl extends ValidatorManager {
       return Collections.emptyList();
     }
 
-    final PackageScope searchScope = new PackageScope(containingPackage, false, true);
-    final List<DomFileElement<Validators>> validationRoots =
-        DomService.getInstance().getFileElements(Validators.class, clazz.getProject(), searchScope);
-
-    final List<DomFileElement<Validators>> filtered =
-        ContainerUtil.filter(validationRoots, validatorDomFileElement -> {
-          final String fileName = validatorDomFileElement.getFile().getName();
-          return StringUtil.startsWith(fileName, clazz.getName());
-        });
+    final String className = clazz.getName();
+    if (className == null) {
+      return Collections.emptyList();
+    }
 
-    return ContainerUtil.map(filtered, DomFileElement::getFile);
+    final PackageScope searchScope = new PackageScope(containingPackage, false, true);
+    final PsiManager psiManager = PsiManager.getInstance(clazz.getProject());
+    final List<XmlFile> validationFiles = new ArrayList<>();
+    for (final VirtualFile file : ValidationFileIndex.getFiles(className, searchScope)) {
+      if (psiManager.findFile(file) instanceof XmlFile xmlFile &&
+          isValidatorsFile(xmlFile)) {
+        validationFiles.add(xmlFile);
+      }
+    }
+    return validationFiles;
   }
 
   /**
@@ -192,4 +247,24 @@ public class ValidatorManagerImpl extends ValidatorManager {
     return (XmlFile) PsiManager.getInstance(project).findFile(vfDefaultXml);
   }
 
+
+  /**
+   * Merged validators (default and custom) with name lookup.
+   */
+  private static final class ValidatorRegistry {
+
+    private final List<ValidatorConfig> myValidators;
+    private final Map<String, ValidatorConfig> myValidatorsByName = new HashMap<>();
+
+    private ValidatorRegistry(final List<ValidatorConfig> validators) {
+      myValidators = Collections.unmodifiableList(validators);
+      for (final ValidatorConfig validator : validators) {
+        final String name = validator.getName().getStringValue();
+        if (name != null) {
+          myValidatorsByName.put(name, validator); // custom follows default, thus overrides
+        }
+      }
+    }
+  }
+
 }
\ No newline at end of file
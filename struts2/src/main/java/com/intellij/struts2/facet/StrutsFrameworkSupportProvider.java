@@ -146,6 +146,7 @@ public class StrutsFrameworkSupportProvider extends FacetBasedFrameworkSupportPr
               }
             }
             strutsFacetConfiguration.getFileSets().add(fileSet);
+            strutsFacetConfiguration.setModified();
 
 
             // create filter & mapping in web.xml (if present)
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 The authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.intellij.struts2.facet;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.struts2.facet.ui.StrutsVersionDetector;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Provides the Struts 2 version of a module, detected from the attached {@code struts2-core.jar}.
+ * <p/>
+ * The version is cached until project roots or the VFS structure change.
+ */
+public final class StrutsVersionManager {
+
+  private final CachedValue<String> myVersion;
+
+  public StrutsVersionManager(@NotNull final Module module) {
+    final Project project = module.getProject();
+    myVersion = CachedValuesManager.getManager(project).createCachedValue(
+      () -> CachedValueProvider.Result.create(StrutsVersionDetector.detectStrutsVersion(module),
+                                              ProjectRootManager.getInstance(project),
+                                              VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS),
+      false);
+  }
+
+  public static StrutsVersionManager getInstance(@NotNull final Module module) {
+    return module.getService(StrutsVersionManager.class);
+  }
+
+  /**
+   * @return {@code null} if Struts 2 library could not be found.
+   */
+  @Nullable
+  public String getVersion() {
+    return myVersion.getValue();
+  }
+
+  /**
+   * Checks whether the detected version is newer than or equal to the given one.
+   *
+   * @param version Version to compare with, e.g. {@code 2.0.8}.
+   * @return {@code false} if version could not be determined.
+   */
+  public boolean isAtLeast(@NotNull @NonNls final String version) {
+    final String detected = getVersion();
+    return detected != null && StringUtil.compareVersionNumbers(detected, version) >= 0;
+  }
+
+  /**
+   * Checks whether the detected version is strictly newer than the given one.
+   *
+   * @param version Version to compare with, e.g. {@code 2.0.8}.
+   * @return {@code false} if version could not be determined.
+   */
+  public boolean isNewerThan(@NotNull @NonNls final String version) {
+    final String detected = getVersion();
+    return detected != null && StringUtil.compareVersionNumbers(detected, version) > 0;
+  }
+}
@@ -17,8 +17,11 @@ package com.intellij.struts2.facet.ui;
 
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.SimpleModificationTracker;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
 import com.intellij.openapi.vfs.pointers.VirtualFilePointer;
 import com.intellij.openapi.vfs.pointers.VirtualFilePointerManager;
 import com.intellij.struts2.facet.StrutsFacetConfiguration;
@@ -30,16 +33,20 @@ import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 /**
  * Groups one or more {@code struts.xml} files in a named set.
+ * <p/>
+ * Modification count is incremented on adding/removing files.
  *
  * @author Yann C&eacute;bron
  */
-public class StrutsFileSet implements Disposable {
+public class StrutsFileSet extends SimpleModificationTracker implements Disposable {
 
   private final String id;
   private String name;
@@ -49,6 +56,11 @@ public class StrutsFileSet implements Disposable {
 
   private final List<VirtualFilePointer> files = new SmartList<>();
 
+  /**
+   * URLs of all files, rebuilt after changes to files or VFS structure (rename/move).
+   */
+  private volatile Pair<Long, Set<String>> fileUrls;
+
   @NonNls
   private static final String ID_PREFIX = "s2fileset";
 
@@ -127,24 +139,43 @@ public class StrutsFileSet implements Disposable {
     if (!StringUtil.isEmptyOrSpaces(url)) {
       final VirtualFilePointer filePointer = VirtualFilePointerManager.getInstance().create(url, this, null);
       files.add(filePointer);
+      incModificationCount();
     }
   }
 
   public void removeFile(final VirtualFilePointer file) {
     files.remove(file);
+    incModificationCount();
   }
 
   public boolean hasFile(@Nullable final VirtualFile file) {
     if (file == null) {
       return false;
     }
+    return getFileUrls().contains(file.getUrl());
+  }
+
+  /**
+   * @return URLs of all (existing) files.
+   */
+  @NotNull
+  public Set<String> getFileUrls() {
+    final long stamp = getModificationCount() + VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS.getModificationCount();
+    final Pair<Long, Set<String>> cached = fileUrls;
+    if (cached != null && cached.first == stamp) {
+      return cached.second;
+    }
+
+    final Set<String> urls = new HashSet<>();
     for (final VirtualFilePointer pointer : files) {
       final VirtualFile virtualFile = pointer.getFile();
-      if (virtualFile != null && file.equals(virtualFile)) {
-        return true;
+      if (virtualFile != null) {
+        urls.add(virtualFile.getUrl());
       }
     }
-    return false;
+    final Set<String> result = Collections.unmodifiableSet(urls);
+    fileUrls = Pair.create(stamp, result);
+    return result;
   }
 
   public boolean equals(final Object another) {
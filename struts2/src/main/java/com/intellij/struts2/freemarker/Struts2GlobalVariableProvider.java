@@ -25,12 +25,12 @@ import com.intellij.freemarker.psi.variables.FtlVariable;
 import com.intellij.javaee.web.WebCommonClassNames;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtilCore;
-import com.intellij.openapi.paths.PathReference;
 import com.intellij.psi.CommonClassNames;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiClassType;
 import com.intellij.psi.PsiElement;
 import com.intellij.jsp.JspManager;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.util.PsiTypesUtil;
 import com.intellij.psi.xml.XmlDocument;
 import com.intellij.psi.xml.XmlFile;
@@ -42,7 +42,6 @@ import com.intellij.struts2.dom.struts.model.StrutsManager;
 import com.intellij.struts2.dom.struts.model.StrutsModel;
 import com.intellij.struts2.dom.struts.strutspackage.ResultType;
 import com.intellij.struts2.facet.StrutsFacet;
-import com.intellij.util.Processor;
 import com.intellij.xml.XmlNSDescriptor;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
@@ -93,37 +92,39 @@ final class Struts2GlobalVariableProvider extends FtlGlobalVariableProvider {
     installTaglibSupport(result, module,
                          StrutsConstants.TAGLIB_BOOTSTRAP_PLUGIN_URI, StrutsConstants.TAGLIB_BOOTSTRAP_PLUGIN_PREFIX);
 
-    final Processor<Action> processor = action -> {
-      final PsiClass actionClass = action.searchActionClass();
-      if (actionClass != null) {
-        for (final Result result1 : action.getResults()) {
-          final ResultType resultType = result1.getEffectiveResultType();
-          if (resultType != null &&
-              FreeMarkerStrutsResultContributor.FREEMARKER.equals(resultType.getName().getStringValue())) {
-            final PathReference reference = result1.getValue();
-            final PsiElement target = reference == null ? null : reference.resolve();
-            if (target != null &&
-                (file.getManager().areElementsEquivalent(file, target) ||
-                 file.getManager().areElementsEquivalent(file.getOriginalFile(), target))) {
-              final PsiClassType actionType = PsiTypesUtil.getClassType(actionClass);
-              final FtlPsiType ftlPsiType = FtlPsiType.wrap(actionType);
-              result.add(new MyFtlLightVariable("", action.getXmlTag(), ftlPsiType));
-              result.add(new MyFtlLightVariable("action", action.getXmlTag(), ftlPsiType));
-              return false; // stop after first match
-            }
-          }
-        }
-      }
-
-      return true;
-    };
+    final VirtualFile virtualFile = file.getOriginalFile().getVirtualFile();
+    if (virtualFile == null) {
+      return result;
+    }
 
     for (final StrutsModel model : StrutsManager.getInstance(file.getProject()).getAllModels(module)) {
-      model.processActions(processor);
+      installActionSupport(result, model, virtualFile);
     }
     return result;
   }
 
+  private static void installActionSupport(@NotNull final List<FtlVariable> result,
+                                           @NotNull final StrutsModel model,
+                                           @NotNull final VirtualFile virtualFile) {
+    for (final Result strutsResult : model.findResultsForView(virtualFile)) {
+      final ResultType resultType = strutsResult.getEffectiveResultType();
+      if (resultType == null ||
+          !FreeMarkerStrutsResultContributor.FREEMARKER.equals(resultType.getName().getStringValue())) {
+        continue;
+      }
+
+      final Action action = strutsResult.getParentOfType(Action.class, true);
+      final PsiClass actionClass = action != null ? action.searchActionClass() : null;
+      if (actionClass != null) {
+        final PsiClassType actionType = PsiTypesUtil.getClassType(actionClass);
+        final FtlPsiType ftlPsiType = FtlPsiType.wrap(actionType);
+        result.add(new MyFtlLightVariable("", action.getXmlTag(), ftlPsiType));
+        result.add(new MyFtlLightVariable("action", action.getXmlTag(), ftlPsiType));
+        return; // stop after first match
+      }
+    }
+  }
+
   private static void installTaglibSupport(@NotNull final List<FtlVariable> result,
                                            @NotNull final Module module,
                                            @NotNull @NonNls final String taglibUri,
@@ -20,22 +20,28 @@ import com.intellij.navigation.NavigationItem;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
 import com.intellij.psi.PsiMethod;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.psi.xml.XmlTag;
 import com.intellij.struts2.Struts2Icons;
 import com.intellij.struts2.dom.struts.action.Action;
 import com.intellij.struts2.dom.struts.model.StrutsManager;
 import com.intellij.struts2.dom.struts.model.StrutsModel;
+import com.intellij.struts2.dom.struts.model.StrutsPackageIndex;
 import com.intellij.struts2.facet.StrutsFacet;
 import com.intellij.struts2.model.constant.StrutsConstantHelper;
 import com.intellij.struts2.reference.ActionUtils;
 import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.xml.DomElement;
+import com.intellij.util.xml.DomManager;
 import com.intellij.util.xml.model.gotosymbol.GoToSymbolProvider;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -60,74 +66,91 @@ public class GoToActionLinkSymbolProvider extends GoToSymbolProvider {
 
   @Override
   protected void addNames(@NotNull final Module module, final Set<String> result) {
-    final StrutsModel strutsModel = StrutsManager.getInstance(module.getProject()).getCombinedModel(module);
-    if (strutsModel == null) {
+    final List<String> actionExtensions = StrutsConstantHelper.getActionExtensions(module);
+    if (actionExtensions.isEmpty()) {
       return;
     }
 
-    final Set<String> actionUrls = new HashSet<>();
-
-    strutsModel.processActions(action -> {
-      final String actionName = action.getName().getStringValue();
+    for (final StrutsPackageIndex.IndexedAction action : StrutsPackageIndex.getActions(module)) {
+      final String actionName = action.getName();
       final String namespace = action.getNamespace();
-      
-      if (actionName != null) {
-        // Get action extensions from struts configuration
-        final List<String> actionExtensions = StrutsConstantHelper.getActionExtensions(action.getXmlTag());
-        
-        for (String extension : actionExtensions) {
-          // Add full URL: /namespace/actionName.do
-          final String fullUrl = namespace + "/" + actionName + extension;
-          actionUrls.add(fullUrl);
-          
-          // Also add without leading slash for root namespace
-          if ("/".equals(namespace)) {
-            actionUrls.add(actionName + extension);
-          }
+      for (String extension : actionExtensions) {
+        // Add full URL: /namespace/actionName.do
+        result.add(namespace + "/" + actionName + extension);
+
+        // Also add without leading slash for root namespace
+        if ("/".equals(namespace)) {
+          result.add(actionName + extension);
         }
       }
-      
-      return true;
-    });
-    
-    result.addAll(actionUrls);
+    }
   }
 
   @Override
   protected void addItems(@NotNull final Module module, final String name, final List<NavigationItem> result) {
-    final StrutsModel strutsModel = StrutsManager.getInstance(module.getProject()).getCombinedModel(module);
-    if (strutsModel == null) {
-      return;
-    }
-
-    // Get action extensions from struts configuration using any action as context
-    final List<String> actionExtensions = new ArrayList<>();
-    strutsModel.processActions(action -> {
-      if (actionExtensions.isEmpty()) {
-        actionExtensions.addAll(StrutsConstantHelper.getActionExtensions(action.getXmlTag()));
-      }
-      return actionExtensions.isEmpty(); // Continue until we get extensions
-    });
-
     // Find which extension matches
+    final List<String> actionExtensions = StrutsConstantHelper.getActionExtensions(module);
     final String matchingExtension = ContainerUtil.find(actionExtensions, ext -> StringUtil.endsWith(name, ext));
     if (matchingExtension == null) {
       return;
     }
 
-    // Try original logic first
-    Action foundAction = findActionByUrl(name, matchingExtension, strutsModel);
-    
-    // If not found, try without first path segment
+    // Direct hit via index avoids building the combined model
+    Action foundAction = findIndexedAction(module, name, matchingExtension);
+
     if (foundAction == null) {
-      foundAction = findActionByUrlWithoutFirstPath(name, matchingExtension, strutsModel);
+      final StrutsModel strutsModel = StrutsManager.getInstance(module.getProject()).getCombinedModel(module);
+      if (strutsModel == null) {
+        return;
+      }
+
+      // Try original logic first (wildcard actions)
+      foundAction = findActionByUrl(name, matchingExtension, strutsModel);
+
+      // If not found, try without first path segment
+      if (foundAction == null) {
+        foundAction = findActionByUrlWithoutFirstPath(name, matchingExtension, strutsModel);
+      }
     }
-    
+
     if (foundAction != null) {
       addNavigationItemsForAction(foundAction, name, result);
     }
   }
 
+  /**
+   * Returns the first exact match in declaration order, like {@link StrutsModel#findActionsByName} does.
+   * Namespaces containing wildcard actions are left to the model, as these might match first.
+   */
+  @Nullable
+  private static Action findIndexedAction(final Module module, final String fullUrl, final String extension) {
+    final String actionName = ActionUtils.getActionName(fullUrl, extension);
+    final String namespace = ActionUtils.getNamespace(fullUrl);
+
+    if (StrutsPackageIndex.hasWildcardActions(module, namespace)) {
+      return null;
+    }
+
+    final Project project = module.getProject();
+    for (final StrutsPackageIndex.IndexedAction indexedAction : StrutsPackageIndex.findActions(module, namespace, actionName)) {
+      final PsiFile psiFile = PsiManager.getInstance(project).findFile(indexedAction.getFile());
+      if (!(psiFile instanceof XmlFile)) {
+        continue;
+      }
+
+      final XmlTag actionTag = indexedAction.findActionTag((XmlFile)psiFile);
+      if (actionTag == null) {
+        continue;
+      }
+
+      final DomElement domElement = DomManager.getDomManager(project).getDomElement(actionTag);
+      if (domElement instanceof Action) {
+        return (Action)domElement;
+      }
+    }
+    return null;
+  }
+
   private Action findActionByUrl(String fullUrl, String extension, StrutsModel strutsModel) {
     final String actionName = ActionUtils.getActionName(fullUrl, extension);
     final String namespace = ActionUtils.getNamespace(fullUrl);
@@ -14,16 +14,22 @@
  */
 package com.intellij.struts2.graph;
 
+import com.intellij.lang.xml.XMLLanguage;
 import com.intellij.openapi.graph.builder.GraphDataModel;
 import com.intellij.openapi.graph.builder.NodesGroup;
 import com.intellij.openapi.graph.builder.components.BasicNodesGroup;
 import com.intellij.openapi.graph.view.NodeLabel;
 import com.intellij.openapi.graph.view.hierarchy.GroupNodeRealizer;
 import com.intellij.openapi.paths.PathReference;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.SimpleModificationTracker;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.xml.XmlElement;
 import com.intellij.psi.xml.XmlFile;
+import com.intellij.psi.xml.XmlTag;
 import com.intellij.struts2.dom.struts.action.Action;
 import com.intellij.struts2.dom.struts.action.Result;
 import com.intellij.struts2.dom.struts.model.StrutsManager;
@@ -32,26 +38,56 @@ import com.intellij.struts2.dom.struts.strutspackage.StrutsPackage;
 import com.intellij.struts2.graph.beans.ActionNode;
 import com.intellij.struts2.graph.beans.BasicStrutsEdge;
 import com.intellij.struts2.graph.beans.BasicStrutsNode;
+import com.intellij.struts2.graph.beans.PackageNode;
 import com.intellij.struts2.graph.beans.ResultNode;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
+ * Graph data for all Actions/Results of the model containing the given file.
+ * <p/>
+ * The graph is only recomputed when XML has changed, reusing the nodes of all unchanged Actions.
+ * {@link #getNodes()}/{@link #getEdges()} return the last snapshot, use {@link #refreshDataModel()} to update it off the EDT.
+ * <p/>
+ * In clustered mode, packages are shown as single nodes and only the Actions of expanded packages are added.
+ *
  * @author Yann C&eacute;bron
  * @author Sergey Vasiliev
  */
 public class StrutsDataModel extends GraphDataModel<BasicStrutsNode, BasicStrutsEdge> {
 
-  private final Set<BasicStrutsNode> myNodes = new HashSet<>();
-  private final Set<BasicStrutsEdge> myEdges = new HashSet<>();
+  private volatile Collection<BasicStrutsNode> myNodes = Collections.emptySet();
+  private volatile Collection<BasicStrutsEdge> myEdges = Collections.emptySet();
+
+  private final Map<PsiFile, NodesGroup> myGroups = new ConcurrentHashMap<>();
+
+  /**
+   * Models with more Actions are initially shown clustered by package.
+   */
+  private static final int CLUSTER_ACTIONS_THRESHOLD = 200;
+
+  @Nullable
+  private volatile Boolean myClustered;
+  private final Set<StrutsPackage> myExpandedPackages = ConcurrentHashMap.newKeySet();
+  private final SimpleModificationTracker myViewModificationTracker = new SimpleModificationTracker();
+
+  private final Lock myRefreshLock = new ReentrantLock();
 
-  private final Map<PsiFile, NodesGroup> myGroups = new HashMap<>();
+  // guarded by myRefreshLock
+  private Map<Action, ActionSubgraph> myActionSubgraphs = new HashMap<>();
+  private StrutsModel myModel;
+  private long myModificationCount = -1;
+  private long myViewModificationCount = -1;
 
   private final Project myProject;
   private final XmlFile myFile;
+  private final ModificationTracker myXmlModificationTracker;
 
   @NonNls
   private static final String UNKNOWN = "???";
@@ -59,12 +95,12 @@ public class StrutsDataModel extends GraphDataModel<BasicStrutsNode, BasicStruts
   public StrutsDataModel(final XmlFile file) {
     myFile = file;
     myProject = file.getProject();
+    myXmlModificationTracker = PsiModificationTracker.getInstance(myProject).forLanguage(XMLLanguage.INSTANCE);
   }
 
   @Override
   @NotNull
   public Collection<BasicStrutsNode> getNodes() {
-    refreshDataModel();
     return myNodes;
   }
 
@@ -107,10 +143,45 @@ public class StrutsDataModel extends GraphDataModel<BasicStrutsNode, BasicStruts
   public void dispose() {
   }
 
-  private void refreshDataModel() {
-    myNodes.clear();
-    myEdges.clear();
-    updateDataModel();
+  /**
+   * Updates the graph if the underlying model has changed. Must be called inside read action.
+   *
+   * @return {@code true} if graph was updated.
+   */
+  public boolean refreshDataModel() {
+    myRefreshLock.lock();
+    try {
+      return doRefreshDataModel();
+    }
+    finally {
+      myRefreshLock.unlock();
+    }
+  }
+
+  public boolean isClustered() {
+    return Boolean.TRUE.equals(myClustered);
+  }
+
+  /**
+   * Shows packages as collapsible cluster nodes.
+   *
+   * @param clustered On/off.
+   */
+  public void setClustered(final boolean clustered) {
+    myClustered = clustered;
+    myViewModificationTracker.incModificationCount();
+  }
+
+  /**
+   * Expands/collapses the given package in clustered mode.
+   *
+   * @param strutsPackage Package.
+   */
+  public void toggleExpanded(@NotNull final StrutsPackage strutsPackage) {
+    if (!myExpandedPackages.remove(strutsPackage)) {
+      myExpandedPackages.add(strutsPackage);
+    }
+    myViewModificationTracker.incModificationCount();
   }
 
   @Override
@@ -127,12 +198,12 @@ public class StrutsDataModel extends GraphDataModel<BasicStrutsNode, BasicStruts
     return null;
   }
 
-  private void addNode(final BasicStrutsNode node) {
+  private void addNode(final Set<BasicStrutsNode> nodes, final BasicStrutsNode node) {
     if (!node.getIdentifyingElement().isValid()) {
       return;
     }
 
-    myNodes.add(node);
+    nodes.add(node);
 
     if (isGroupElements()) {
       final XmlElement element = node.getIdentifyingElement().getXmlElement();
@@ -171,40 +242,127 @@ public class StrutsDataModel extends GraphDataModel<BasicStrutsNode, BasicStruts
     return true;
   }
 
-  private void addEdge(final BasicStrutsEdge edge) {
+  private static void addEdge(final Set<BasicStrutsEdge> edges, final BasicStrutsEdge edge) {
     if (!edge.getSource().getIdentifyingElement().isValid() ||
         !edge.getTarget().getIdentifyingElement().isValid()) {
       return;
     }
 
-    myEdges.add(edge);
+    edges.add(edge);
   }
 
-  private void updateDataModel() {
+  private boolean doRefreshDataModel() {
     final StrutsModel model = StrutsManager.getInstance(myProject).getModelByFile(myFile);
-    if (model == null) {
-      return;
+    final long modificationCount = myXmlModificationTracker.getModificationCount();
+    final long viewModificationCount = myViewModificationTracker.getModificationCount();
+    if (model == myModel &&
+        modificationCount == myModificationCount &&
+        viewModificationCount == myViewModificationCount) {
+      return false;
     }
 
-    for (final StrutsPackage strutsPackage : model.getStrutsPackages()) {
-      for (final Action action : strutsPackage.getActions()) {
-        final ActionNode actionNode = new ActionNode(action, action.getName().getStringValue());
-        addNode(actionNode);
+    final List<StrutsPackage> strutsPackages = model != null ? model.getStrutsPackages() : Collections.emptyList();
+    if (myClustered == null) {
+      int actionCount = 0;
+      for (final StrutsPackage strutsPackage : strutsPackages) {
+        actionCount += strutsPackage.getActions().size();
+      }
+      myClustered = actionCount > CLUSTER_ACTIONS_THRESHOLD;
+    }
+    final boolean clustered = isClustered();
+
+    final Map<Action, ActionSubgraph> actionSubgraphs = new HashMap<>();
+    final Set<BasicStrutsNode> nodes = new HashSet<>();
+    final Set<BasicStrutsEdge> edges = new HashSet<>();
+    for (final StrutsPackage strutsPackage : strutsPackages) {
+      final List<Action> actions = strutsPackage.getActions();
+
+      PackageNode packageNode = null;
+      if (clustered) {
+        final boolean expanded = myExpandedPackages.contains(strutsPackage);
+        packageNode = new PackageNode(strutsPackage, actions.size(), expanded);
+        addNode(nodes, packageNode);
+        if (!expanded) {
+          continue;
+        }
+      }
 
-        for (final Result result : action.getResults()) {
-          final PathReference pathReference = result.getValue();
-          final String path = pathReference != null ? pathReference.getPath() : UNKNOWN;
+      for (final Action action : actions) {
+        ProgressManager.checkCanceled();
 
-          final ResultNode resultNode = new ResultNode(result, path);
-          addNode(resultNode);
+        final ActionSubgraph existing = myActionSubgraphs.get(action);
+        final ActionSubgraph actionSubgraph = existing != null && existing.isUpToDate(action) ? existing : new ActionSubgraph(action);
+        actionSubgraphs.put(action, actionSubgraph);
 
-          final String resultName = result.getName().getStringValue();
-          addEdge(new BasicStrutsEdge(actionNode, resultNode, resultName != null ? resultName : Result.DEFAULT_NAME));
+        addNode(nodes, actionSubgraph.myActionNode);
+        if (packageNode != null) {
+          addEdge(edges, new BasicStrutsEdge(packageNode, actionSubgraph.myActionNode, ""));
+        }
+        for (final BasicStrutsEdge edge : actionSubgraph.myEdges) {
+          addNode(nodes, edge.getTarget());
+          addEdge(edges, edge);
         }
-
       }
     }
 
+    // subgraphs of collapsed packages are dropped, re-expanding rebuilds them
+    myActionSubgraphs = actionSubgraphs;
+    myModel = model;
+    myModificationCount = modificationCount;
+    myViewModificationCount = viewModificationCount;
+    myEdges = edges;
+    myNodes = nodes;
+    return true;
   }
 
+
+  /**
+   * Action node with its Result nodes/edges, reused as long as the {@code <action>} tag is unchanged.
+   */
+  private static final class ActionSubgraph {
+
+    private final ActionNode myActionNode;
+    private final List<BasicStrutsEdge> myEdges = new ArrayList<>();
+
+    @Nullable
+    private final PsiFile myFile;
+    private final long myFileModificationStamp;
+    @Nullable
+    private final String myText;
+
+    private ActionSubgraph(final Action action) {
+      final XmlTag tag = action.getXmlTag();
+      myFile = tag != null ? tag.getContainingFile() : null;
+      myFileModificationStamp = myFile != null ? myFile.getModificationStamp() : -1;
+      myText = tag != null ? tag.getText() : null;
+
+      myActionNode = new ActionNode(action, action.getName().getStringValue());
+      for (final Result result : action.getResults()) {
+        final PathReference pathReference = result.getValue();
+        final String path = pathReference != null ? pathReference.getPath() : UNKNOWN;
+
+        final ResultNode resultNode = new ResultNode(result, path);
+        final String resultName = result.getName().getStringValue();
+        myEdges.add(new BasicStrutsEdge(myActionNode, resultNode, resultName != null ? resultName : Result.DEFAULT_NAME));
+      }
+    }
+
+    private boolean isUpToDate(final Action action) {
+      if (!action.isValid()) {
+        return false;
+      }
+
+      final XmlTag tag = action.getXmlTag();
+      if (tag == null || myText == null) {
+        return false;
+      }
+
+      final PsiFile file = tag.getContainingFile();
+      if (file == myFile && file.getModificationStamp() == myFileModificationStamp) {
+        return true;
+      }
+
+      return myText.equals(tag.getText());
+    }
+  }
 }
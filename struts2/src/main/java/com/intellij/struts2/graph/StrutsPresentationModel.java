@@ -30,6 +30,7 @@ import com.intellij.struts2.dom.struts.strutspackage.ResultType;
 import com.intellij.struts2.dom.struts.strutspackage.StrutsPackage;
 import com.intellij.struts2.graph.beans.BasicStrutsEdge;
 import com.intellij.struts2.graph.beans.BasicStrutsNode;
+import com.intellij.struts2.graph.beans.PackageNode;
 import com.intellij.util.OpenSourceUtil;
 import com.intellij.util.xml.DomElement;
 import org.jetbrains.annotations.NonNls;
@@ -43,9 +44,15 @@ import org.jetbrains.annotations.Nullable;
 public class StrutsPresentationModel extends BasicGraphPresentationModel<BasicStrutsNode, BasicStrutsEdge> {
 
   private BasicGraphNodeRenderer myRenderer;
+  private final Runnable myUpdater;
 
-  public StrutsPresentationModel(final Graph2D graph) {
+  /**
+   * @param graph   Graph.
+   * @param updater Refreshes the data model off the EDT and updates the graph afterwards.
+   */
+  public StrutsPresentationModel(final Graph2D graph, @NotNull final Runnable updater) {
     super(graph);
+    myUpdater = updater;
     getSettings().setShowEdgeLabels(true);
   }
 
@@ -68,6 +75,14 @@ public class StrutsPresentationModel extends BasicGraphPresentationModel<BasicSt
       return false;
     }
 
+    // expand/collapse package cluster
+    if (node instanceof PackageNode &&
+        getGraphBuilder().getGraphDataModel() instanceof StrutsDataModel dataModel) {
+      dataModel.toggleExpanded(((PackageNode)node).getIdentifyingElement());
+      myUpdater.run();
+      return true;
+    }
+
     final XmlElement xmlElement = node.getIdentifyingElement().getXmlElement();
     if (xmlElement instanceof Navigatable) {
       OpenSourceUtil.navigate((Navigatable)xmlElement);
@@ -111,6 +126,14 @@ public class StrutsPresentationModel extends BasicGraphPresentationModel<BasicSt
       return builder.getText();
     }
 
+    if (element instanceof StrutsPackage strutsPackage) {
+      final DocumentationBuilder builder = new DocumentationBuilder();
+      builder.addLine("Package", strutsPackage.getName().getStringValue())
+        .addLine("Namespace", strutsPackage.searchNamespace())
+        .addLine("Actions", String.valueOf(strutsPackage.getActions().size()));
+      return builder.getText();
+    }
+
     if (element instanceof Result result) {
       final PathReference pathReference = result.getValue();
       final String displayPath = pathReference != null ? pathReference.getPath() : "???";
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 The authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.struts2.graph.beans;
+
+import com.intellij.struts2.StrutsIcons;
+import com.intellij.struts2.dom.struts.strutspackage.StrutsPackage;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+
+/**
+ * Represents {@link StrutsPackage} element as cluster of its Actions.
+ */
+public class PackageNode extends BasicStrutsNode<StrutsPackage> {
+
+  public PackageNode(@NotNull final StrutsPackage identifyingElement,
+                     final int actionCount,
+                     final boolean expanded) {
+    super(identifyingElement, (expanded ? "- " : "+ ") + identifyingElement.getName().getStringValue() + " (" + actionCount + ")");
+  }
+
+  @Override
+  @NotNull
+  public Icon getIcon() {
+    return StrutsIcons.STRUTS_PACKAGE;
+  }
+
+}
@@ -14,8 +14,11 @@
  */
 package com.intellij.struts2.graph.fileEditor;
 
+import com.intellij.icons.AllIcons;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.actionSystem.*;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.graph.GraphManager;
 import com.intellij.openapi.graph.builder.GraphBuilder;
 import com.intellij.openapi.graph.builder.GraphBuilderFactory;
@@ -29,10 +32,12 @@ import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Disposer;
 import com.intellij.psi.xml.XmlFile;
+import com.intellij.struts2.StrutsBundle;
 import com.intellij.struts2.graph.StrutsDataModel;
 import com.intellij.struts2.graph.StrutsPresentationModel;
 import com.intellij.struts2.graph.beans.BasicStrutsEdge;
 import com.intellij.struts2.graph.beans.BasicStrutsNode;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.intellij.util.containers.ContainerUtil;
 import com.intellij.util.xml.DomElement;
 import com.intellij.util.xml.DomEventListener;
@@ -56,18 +61,21 @@ public class Struts2GraphComponent extends JPanel implements DataProvider, Dispo
   private static final String STRUTS2_DESIGNER_COMPONENT = "STRUTS2_DESIGNER_COMPONENT";
 
   private final GraphBuilder<BasicStrutsNode, BasicStrutsEdge> myBuilder;
+  private final StrutsDataModel myDataModel;
+  private final XmlFile myXmlFile;
 
   public Struts2GraphComponent(final XmlFile xmlFile) {
     final ProgressIndicator progress = ProgressManager.getInstance().getProgressIndicator();
 
     progress.setText("Initializing...");
+    myXmlFile = xmlFile;
     final Project project = xmlFile.getProject();
     final Graph2D graph = GraphManager.getGraphManager().createGraph2D();
     final Graph2DView view = GraphManager.getGraphManager().createGraph2DView();
 
     progress.setText("Building model...");
-    final StrutsDataModel myDataModel = new StrutsDataModel(xmlFile);
-    final StrutsPresentationModel presentationModel = new StrutsPresentationModel(graph);
+    myDataModel = new StrutsDataModel(xmlFile);
+    final StrutsPresentationModel presentationModel = new StrutsPresentationModel(graph, this::queueUpdate);
 
     progress.setText("Setup graph...");
     myBuilder = GraphBuilderFactory.getInstance(project).createGraphBuilder(graph,
@@ -79,25 +87,48 @@ public class Struts2GraphComponent extends JPanel implements DataProvider, Dispo
     JComponent graphComponent = myBuilder.getView().getJComponent();
     setLayout(new BorderLayout());
 
+    final DefaultActionGroup toolbarActions = new DefaultActionGroup(AbstractGraphAction.getCommonToolbarActions());
+    toolbarActions.addSeparator();
+    toolbarActions.add(new ClusterByPackageAction());
     ActionToolbar toolbar = ActionManager.getInstance().createActionToolbar(
-      ActionPlaces.TOOLBAR, AbstractGraphAction.getCommonToolbarActions(), true);
+      ActionPlaces.TOOLBAR, toolbarActions, true);
     toolbar.setTargetComponent(graphComponent);
 
     add(toolbar.getComponent(), BorderLayout.NORTH);
     add(graphComponent, BorderLayout.CENTER);
 
+    progress.setText("Building graph...");
+    myDataModel.refreshDataModel();
     myBuilder.initialize();
 
     DomManager.getDomManager(myBuilder.getProject()).addDomEventListener(new DomEventListener() {
       @Override
       public void eventOccured(@NotNull final DomEvent event) {
         if (isShowing()) {
-          myBuilder.queueUpdate();
+          queueUpdate();
         }
       }
     }, this);
   }
 
+  /**
+   * Refreshes the data model in background and updates the graph if anything has changed.
+   * <p/>
+   * Expires with this component, which is disposed together with its editor.
+   */
+  public void queueUpdate() {
+    ReadAction.nonBlocking(() -> myDataModel.refreshDataModel())
+      .coalesceBy(this)
+      .expireWith(this)
+      .expireWhen(() -> !myXmlFile.isValid())
+      .finishOnUiThread(ModalityState.defaultModalityState(), changed -> {
+        if (changed) {
+          myBuilder.queueUpdate();
+        }
+      })
+      .submit(AppExecutorUtil.getAppExecutorService());
+  }
+
   public List<DomElement> getSelectedDomElements() {
     final var selected = new ArrayList<DomElement>();
     GraphSelectionService.getInstance().forEachSelectedNode(myBuilder.getGraph(), node -> {
@@ -158,4 +189,29 @@ public class Struts2GraphComponent extends JPanel implements DataProvider, Dispo
     return null;
   }
 
-}
\ No newline at end of file
+
+  private class ClusterByPackageAction extends ToggleAction {
+
+    private ClusterByPackageAction() {
+      super(StrutsBundle.messagePointer("graph.action.cluster.by.package"),
+            StrutsBundle.messagePointer("graph.action.cluster.by.package.description"),
+            AllIcons.Actions.GroupBy);
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+      return ActionUpdateThread.EDT;
+    }
+
+    @Override
+    public boolean isSelected(@NotNull final AnActionEvent e) {
+      return myDataModel.isClustered();
+    }
+
+    @Override
+    public void setSelected(@NotNull final AnActionEvent e, final boolean state) {
+      myDataModel.setClustered(state);
+      queueUpdate();
+    }
+  }
+}
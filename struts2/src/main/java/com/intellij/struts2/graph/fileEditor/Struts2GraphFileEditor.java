@@ -84,7 +84,7 @@ public class Struts2GraphFileEditor extends PerspectiveFileEditor {
 
   @Override
   public void reset() {
-    getStruts2GraphComponent().getBuilder().queueUpdate();
+    getStruts2GraphComponent().queueUpdate();
   }
 
   @Override
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 The authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.intellij.struts2.jsp.ognl;
+
+import com.intellij.facet.FacetFinder;
+import com.intellij.lang.injection.InjectedLanguageManager;
+import com.intellij.lang.ognl.psi.resolve.OgnlRootTypeProvider;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTypesUtil;
+import com.intellij.struts2.dom.struts.action.Action;
+import com.intellij.struts2.dom.struts.action.Result;
+import com.intellij.struts2.dom.struts.model.StrutsManager;
+import com.intellij.struts2.dom.struts.model.StrutsModel;
+import com.intellij.struts2.facet.StrutsFacet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Action class on top of the value stack for OGNL in views (JSP/FreeMarker) mapped as action result.
+ * <p/>
+ * Uses the first action whose result maps to the view, cached per view file. Also invalidated on file set
+ * (facet configuration) and project root changes, which do not change PSI.
+ */
+final class OgnlStruts2ActionRootTypeProvider extends OgnlRootTypeProvider {
+
+  @Nullable
+  @Override
+  public PsiType getRootType(@NotNull PsiElement element,
+                             @NotNull PsiFile containingFile) {
+    final PsiFile topLevelFile = InjectedLanguageManager.getInstance(containingFile.getProject()).getTopLevelFile(element);
+    if (topLevelFile == null || topLevelFile == containingFile) {
+      return null;
+    }
+
+    final PsiFile viewFile = topLevelFile.getOriginalFile();
+    return CachedValuesManager.getCachedValue(viewFile, () -> {
+      final Project project = viewFile.getProject();
+      final StrutsFacet strutsFacet = StrutsFacet.getInstance(viewFile);
+      return CachedValueProvider.Result.create(findActionType(viewFile),
+                                               PsiModificationTracker.getInstance(project),
+                                               strutsFacet != null ? strutsFacet.getConfiguration() : ModificationTracker.NEVER_CHANGED,
+                                               FacetFinder.getInstance(project).getAllFacetsOfTypeModificationTracker(StrutsFacet.FACET_TYPE_ID),
+                                               ProjectRootManager.getInstance(project));
+    });
+  }
+
+  @Nullable
+  private static PsiType findActionType(@NotNull PsiFile viewFile) {
+    if (StrutsFacet.getInstance(viewFile) == null) {
+      return null;
+    }
+
+    final Module module = ModuleUtilCore.findModuleForPsiElement(viewFile);
+    final VirtualFile virtualFile = viewFile.getVirtualFile();
+    if (module == null || virtualFile == null) {
+      return null;
+    }
+
+    final StrutsModel model = StrutsManager.getInstance(viewFile.getProject()).getCombinedModel(module);
+    if (model == null) {
+      return null;
+    }
+
+    for (final Result result : model.findResultsForView(virtualFile)) {
+      final Action action = result.getParentOfType(Action.class, true);
+      final PsiClass actionClass = action != null ? action.searchActionClass() : null;
+      if (actionClass != null) {
+        return PsiTypesUtil.getClassType(actionClass);
+      }
+    }
+    return null;
+  }
+}
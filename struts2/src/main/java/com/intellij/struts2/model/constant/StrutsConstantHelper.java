@@ -14,20 +14,28 @@
  */
 package com.intellij.struts2.model.constant;
 
-import com.intellij.openapi.application.ReadAction;
+import com.intellij.facet.FacetFinder;
+import com.intellij.javaee.web.facet.WebFacet;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
 import com.intellij.openapi.util.Key;
-import com.intellij.openapi.util.NotNullLazyValue;
+import com.intellij.openapi.util.ModificationTracker;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.util.CachedValue;
 import com.intellij.psi.util.CachedValueProvider;
 import com.intellij.psi.util.CachedValuesManager;
-import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.struts2.dom.struts.model.StrutsManager;
+import com.intellij.struts2.dom.struts.model.StrutsModel;
+import com.intellij.struts2.facet.StrutsFacet;
 import com.intellij.struts2.model.constant.contributor.StrutsCoreConstantContributor;
 import com.intellij.util.Function;
 import com.intellij.util.containers.ContainerUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.List;
@@ -44,9 +52,9 @@ public final class StrutsConstantHelper {
   }
 
   /**
-   * Caches action extensions per file.
+   * Caches action extensions per module.
    */
-  private static final Key<CachedValue<NotNullLazyValue<List<String>>>> KEY_ACTION_EXTENSIONS =
+  private static final Key<CachedValue<List<String>>> KEY_ACTION_EXTENSIONS =
       Key.create("STRUTS2_ACTION_EXTENSIONS");
 
   /**
@@ -58,29 +66,66 @@ public final class StrutsConstantHelper {
   @NotNull
   public static List<String> getActionExtensions(@NotNull final PsiElement psiElement) {
     final PsiFile psiFile = psiElement.getContainingFile().getOriginalFile();
+    final Project project = psiFile.getProject();
 
-    CachedValue<NotNullLazyValue<List<String>>> extensions = psiFile.getUserData(KEY_ACTION_EXTENSIONS);
-    if (extensions == null) {
-      final Project project = psiElement.getProject();
-      extensions = CachedValuesManager.getManager(project).createCachedValue(() -> {
-        NotNullLazyValue<List<String>> lazyValue = NotNullLazyValue.atomicLazy(() -> {
-          final List<String> extensions1 =
-            ReadAction.compute(() -> StrutsConstantManager.getInstance(project)
-              .getConvertedValue(psiFile,
-                                 StrutsCoreConstantContributor.ACTION_EXTENSION));
+    // struts.xml files might belong to a different model than the module's combined one
+    if (psiFile instanceof XmlFile &&
+        StrutsManager.getInstance(project).isStruts2ConfigFile((XmlFile)psiFile)) {
+      return toActionExtensions(StrutsConstantManager.getInstance(project)
+                                  .getConvertedValue(psiFile, StrutsCoreConstantContributor.ACTION_EXTENSION));
+    }
 
-          if (extensions1 == null) {
-            return Collections.emptyList();
-          }
+    final Module module = ModuleUtilCore.findModuleForPsiElement(psiFile);
+    if (module == null) {
+      return Collections.emptyList();
+    }
 
-          return ContainerUtil.map(extensions1, DOT_PATH_FUNCTION);
-        });
-        return CachedValueProvider.Result.create(lazyValue, PsiModificationTracker.MODIFICATION_COUNT);
-      }, false);
+    return getActionExtensions(module);
+  }
 
-      psiFile.putUserData(KEY_ACTION_EXTENSIONS, extensions);
+  /**
+   * Returns the current action extension(s) ("{@code .action}") for the given module.
+   * <p/>
+   * Only depends on the combined model's configuration files, {@code struts.properties}, {@code web.xml}, project roots
+   * and the facet setup, so editing JSPs or Java sources does not invalidate it.
+   *
+   * @param module Module.
+   * @return empty list on configuration problems.
+   */
+  @NotNull
+  public static List<String> getActionExtensions(@NotNull final Module module) {
+    final Project project = module.getProject();
+    return CachedValuesManager.getManager(project).getCachedValue(module, KEY_ACTION_EXTENSIONS, () -> {
+      final StrutsModel strutsModel = StrutsManager.getInstance(project).getCombinedModel(module);
+      if (strutsModel == null) {
+        return CachedValueProvider.Result.create(Collections.emptyList(),
+                                                 ProjectRootManager.getInstance(project),
+                                                 FacetFinder.getInstance(project)
+                                                   .getAllFacetsOfTypeModificationTracker(StrutsFacet.FACET_TYPE_ID),
+                                                 getStrutsFacetConfiguration(module));
+      }
+
+      final StrutsFacet strutsFacet = StrutsFacet.getInstance(module);
+      final WebFacet webFacet = strutsFacet != null ? strutsFacet.getWebFacet() : null;
+      final List<String> extensions = toActionExtensions(
+        StrutsConstantManager.getInstance(project).getConvertedValue(module, StrutsCoreConstantContributor.ACTION_EXTENSION));
+      return CachedValueProvider.Result.create(
+        extensions, StrutsConstantManagerImpl.getConfigurationDependencies(module, strutsModel, webFacet));
+    }, false);
+  }
+
+  @NotNull
+  private static ModificationTracker getStrutsFacetConfiguration(@NotNull final Module module) {
+    final StrutsFacet strutsFacet = StrutsFacet.getInstance(module);
+    return strutsFacet != null ? strutsFacet.getConfiguration() : ModificationTracker.NEVER_CHANGED;
+  }
+
+  @NotNull
+  private static List<String> toActionExtensions(@Nullable final List<String> extensions) {
+    if (extensions == null) {
+      return Collections.emptyList();
     }
 
-    return extensions.getValue().getValue();
+    return ContainerUtil.map(extensions, DOT_PATH_FUNCTION);
   }
 }
\ No newline at end of file
@@ -75,4 +75,16 @@ public abstract class StrutsConstantManager {
   public abstract <T> T getConvertedValue(@NotNull final PsiElement context,
                                           @NotNull final StrutsConstantKey<T> strutsConstantKey);
 
+  /**
+   * Determines the constant value for the given name using the combined model of the given module.
+   *
+   * @param module            Module.
+   * @param strutsConstantKey Constant key.
+   * @param <T>               Constant value type.
+   * @return Converted value or {@code null} on errors.
+   */
+  @Nullable
+  public abstract <T> T getConvertedValue(@NotNull final Module module,
+                                          @NotNull final StrutsConstantKey<T> strutsConstantKey);
+
 }
\ No newline at end of file
@@ -15,6 +15,7 @@
 
 package com.intellij.struts2.model.constant;
 
+import com.intellij.facet.FacetFinder;
 import com.intellij.javaee.model.CommonParamValue;
 import com.intellij.javaee.web.WebUtil;
 import com.intellij.javaee.web.facet.WebFacet;
@@ -22,38 +23,50 @@ import com.intellij.javaee.web.model.xml.Filter;
 import com.intellij.javaee.web.model.xml.WebApp;
 import com.intellij.lang.properties.IProperty;
 import com.intellij.lang.properties.PropertiesImplUtil;
+import com.intellij.lang.properties.psi.PropertiesFile;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtilCore;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
 import com.intellij.openapi.util.Condition;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.JarFileSystem;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.FilenameIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.psi.util.InheritanceUtil;
 import com.intellij.psi.xml.XmlFile;
 import com.intellij.struts2.StrutsConstants;
+import com.intellij.struts2.diagnostic.StrutsPerformanceStats;
 import com.intellij.struts2.dom.struts.StrutsRoot;
 import com.intellij.struts2.dom.struts.constant.Constant;
 import com.intellij.struts2.dom.struts.model.StrutsManager;
 import com.intellij.struts2.dom.struts.model.StrutsModel;
+import com.intellij.struts2.facet.StrutsFacet;
 import com.intellij.util.CommonProcessors;
 import com.intellij.util.FilteringProcessor;
 import com.intellij.util.containers.ContainerUtil;
 import com.intellij.util.xml.ConvertContext;
 import com.intellij.util.xml.Converter;
 import com.intellij.util.xml.DomFileElement;
+import com.intellij.util.xml.DomUtil;
 import com.intellij.util.xml.impl.ConvertContextFactory;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Yann C&eacute;bron
@@ -66,6 +79,12 @@ public class StrutsConstantManagerImpl extends StrutsConstantManager {
   @NonNls
   private static final String STRUTS_PROPERTIES_FILENAME = "struts.properties";
 
+  private static final Key<CachedValue<Map<String, StrutsConstant>>> KEY_CONSTANTS_BY_NAME =
+    Key.create("STRUTS2_CONSTANTS_BY_NAME");
+
+  private static final Key<CachedValue<Map<Pair<Set<XmlFile>, WebFacet>, CachedValue<Map<String, String>>>>> KEY_RESOLVED_VALUES =
+    Key.create("STRUTS2_RESOLVED_CONSTANT_VALUES");
+
   private static final Condition<Filter> WEB_XML_STRUTS_FILTER_CONDITION = filter -> {
     final PsiClass filterClass = filter.getFilterClass().getValue();
     return InheritanceUtil.isInheritor(filterClass, StrutsConstants.STRUTS_2_0_FILTER_CLASS) ||
@@ -96,11 +115,7 @@ public class StrutsConstantManagerImpl extends StrutsConstantManager {
       return null;
     }
 
-    final StrutsConstant strutsConstant = ContainerUtil.find(getConstants(module), strutsConstant1 -> Objects.equals(
-      strutsConstant1.getName(), strutsConstantKey.getKey()));
-
-    //noinspection unchecked
-    return strutsConstant != null ? strutsConstant.getConverter() : null;
+    return findConverter(module, strutsConstantKey);
   }
 
   @Override
@@ -113,14 +128,37 @@ public class StrutsConstantManagerImpl extends StrutsConstantManager {
       return null;
     }
 
-    final String stringValue = getStringValue(containingFile,
-                                              strutsModel,
-                                              strutsConstantKey.getKey());
+    final Module module = ModuleUtilCore.findModuleForPsiElement(containingFile);
+    assert module != null : containingFile;
+
+    return getConvertedValue(module, strutsModel, WebUtil.getWebFacet(containingFile), strutsConstantKey);
+  }
+
+  @Override
+  @Nullable
+  public <T> T getConvertedValue(@NotNull final Module module,
+                                 @NotNull final StrutsConstantKey<T> strutsConstantKey) {
+    final StrutsModel strutsModel = StrutsManager.getInstance(module.getProject()).getCombinedModel(module);
+    if (strutsModel == null) {
+      return null;
+    }
+
+    final StrutsFacet strutsFacet = StrutsFacet.getInstance(module);
+    final WebFacet webFacet = strutsFacet != null ? strutsFacet.getWebFacet() : null;
+    return getConvertedValue(module, strutsModel, webFacet, strutsConstantKey);
+  }
+
+  @Nullable
+  private <T> T getConvertedValue(@NotNull final Module module,
+                                  @NotNull final StrutsModel strutsModel,
+                                  @Nullable final WebFacet webFacet,
+                                  @NotNull final StrutsConstantKey<T> strutsConstantKey) {
+    final String stringValue = getStringValues(module, strutsModel, webFacet).get(strutsConstantKey.getKey());
     if (stringValue == null) {
       return null;
     }
 
-    final Converter<T> converter = findConverter(context, strutsConstantKey);
+    final Converter<T> converter = findConverter(module, strutsConstantKey);
     if (converter == null) {
       return (T) stringValue;
     }
@@ -131,87 +169,213 @@ public class StrutsConstantManagerImpl extends StrutsConstantManager {
     return converter.fromString(stringValue, convertContext);
   }
 
+  @Nullable
+  private <T> Converter<T> findConverter(@NotNull final Module module,
+                                         @NotNull final StrutsConstantKey<T> strutsConstantKey) {
+    final StrutsConstant strutsConstant = getConstantsByName(module).get(strutsConstantKey.getKey());
+
+    //noinspection unchecked
+    return strutsConstant != null ? strutsConstant.getConverter() : null;
+  }
+
+  /**
+   * Returns all defined constants for the given module by name.
+   *
+   * @param module Module.
+   * @return Constants.
+   */
+  @NotNull
+  private Map<String, StrutsConstant> getConstantsByName(@NotNull final Module module) {
+    return CachedValuesManager.getManager(module.getProject()).getCachedValue(module, KEY_CONSTANTS_BY_NAME, () -> {
+      final Map<String, StrutsConstant> constantsByName = new HashMap<>();
+      for (final StrutsConstant strutsConstant : getConstants(module)) {
+        constantsByName.putIfAbsent(strutsConstant.getName(), strutsConstant);
+      }
+      return CachedValueProvider.Result.create(constantsByName, ProjectRootManager.getInstance(module.getProject()));
+    }, false);
+  }
+
   /**
-   * Returns the plain String value for the given constant.
+   * Returns the plain String values of all constants, resolved once per model and web facet.
    *
-   * @param context     Current context.
+   * @param module      Module.
    * @param strutsModel StrutsModel.
-   * @param name        Name of constant.
-   * @return {@code null} if no value could be resolved.
+   * @param webFacet    Web facet of current context.
+   * @return Constant name to value.
    */
-  @Nullable
-  private static String getStringValue(@NotNull final PsiFile context,
-                                       @NotNull final StrutsModel strutsModel,
-                                       @NotNull @NonNls final String name) {
-    final Project project = context.getProject();
-    final Module module = ModuleUtilCore.findModuleForPsiElement(context);
-    assert module != null : context;
+  @NotNull
+  private static Map<String, String> getStringValues(@NotNull final Module module,
+                                                     @NotNull final StrutsModel strutsModel,
+                                                     @Nullable final WebFacet webFacet) {
+    final Project project = module.getProject();
+    final CachedValuesManager cachedValuesManager = CachedValuesManager.getManager(project);
+    final Map<Pair<Set<XmlFile>, WebFacet>, CachedValue<Map<String, String>>> resolvedValues =
+      cachedValuesManager.getCachedValue(module, KEY_RESOLVED_VALUES, () -> {
+        final FacetFinder facetFinder = FacetFinder.getInstance(project);
+        final Map<Pair<Set<XmlFile>, WebFacet>, CachedValue<Map<String, String>>> valuesByModel = new ConcurrentHashMap<>();
+        return CachedValueProvider.Result.create(valuesByModel,
+                                                 VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS,
+                                                 ProjectRootManager.getInstance(project),
+                                                 facetFinder.getAllFacetsOfTypeModificationTracker(StrutsFacet.FACET_TYPE_ID),
+                                                 facetFinder.getAllFacetsOfTypeModificationTracker(WebFacet.ID));
+      }, false);
+
+    final Pair<Set<XmlFile>, WebFacet> key = Pair.create(strutsModel.getConfigFiles(), webFacet);
+    final CachedValue<Map<String, String>> values = resolvedValues.computeIfAbsent(
+      key, k -> cachedValuesManager.createCachedValue(() -> {
+        StrutsPerformanceStats.CONSTANTS_RESOLVE.miss();
+        final Map<String, String> computed =
+          StrutsPerformanceStats.CONSTANTS_RESOLVE.compute(() -> computeStringValues(module, strutsModel, webFacet));
+        return CachedValueProvider.Result.create(computed, getConfigurationDependencies(module, strutsModel, webFacet));
+      }, false));
+    if (values.hasUpToDateValue()) {
+      StrutsPerformanceStats.CONSTANTS_RESOLVE.hit();
+    }
+    return values.getValue();
+  }
 
-    // collect all properties with matching key
-    final List<IProperty> properties = PropertiesImplUtil.findPropertiesByKey(project, name);
+  /**
+   * Returns the dependencies of values resolved from the given model: its configuration files, {@code struts.properties}
+   * and {@code web.xml}, project roots and facet setup.
+   *
+   * @param module      Module.
+   * @param strutsModel StrutsModel.
+   * @param webFacet    Web facet of current context.
+   * @return Dependencies for {@link CachedValueProvider.Result}.
+   */
+  static Object @NotNull [] getConfigurationDependencies(@NotNull final Module module,
+                                                         @NotNull final StrutsModel strutsModel,
+                                                         @Nullable final WebFacet webFacet) {
+    final Project project = module.getProject();
+    final List<Object> dependencies = new ArrayList<>(strutsModel.getConfigFiles());
+
+    final PsiManager psiManager = PsiManager.getInstance(project);
+    for (final VirtualFile virtualFile : FilenameIndex.getVirtualFilesByName(STRUTS_PROPERTIES_FILENAME,
+                                                                             GlobalSearchScope.allScope(project))) {
+      if (ModuleUtilCore.moduleContainsFile(module, virtualFile, false)) {
+        ContainerUtil.addIfNotNull(dependencies, psiManager.findFile(virtualFile));
+      }
+    }
 
-    String value = null;
+    final WebApp webApp = webFacet != null ? webFacet.getRoot() : null;
+    if (webApp != null) {
+      dependencies.add(DomUtil.getFile(webApp));
+    }
 
-    // 1. default.properties from struts2-core.jar
-    final IProperty strutsDefaultProperty = ContainerUtil.find(properties, property -> {
-      final VirtualFile virtualFile = property.getPropertiesFile().getVirtualFile();
-      return virtualFile != null &&
-             virtualFile.getFileSystem() instanceof JarFileSystem &&
-             StringUtil.endsWith(virtualFile.getPath(), STRUTS_DEFAULT_PROPERTIES) &&
-             ModuleUtilCore.moduleContainsFile(module, virtualFile, true);
-    });
-    if (strutsDefaultProperty != null) {
-      value = strutsDefaultProperty.getValue();
+    dependencies.add(VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS);
+    dependencies.add(ProjectRootManager.getInstance(project));
+    final FacetFinder facetFinder = FacetFinder.getInstance(project);
+    dependencies.add(facetFinder.getAllFacetsOfTypeModificationTracker(StrutsFacet.FACET_TYPE_ID));
+    dependencies.add(facetFinder.getAllFacetsOfTypeModificationTracker(WebFacet.ID));
+    final StrutsFacet strutsFacet = StrutsFacet.getInstance(module);
+    if (strutsFacet != null) {
+      dependencies.add(strutsFacet.getConfiguration());
     }
+    return dependencies.toArray();
+  }
 
-    // 2. <constant> from StrutsModel
-    final Condition<Constant> constantNameCondition = constant -> Objects.equals(constant.getName().getStringValue(), name);
+  /**
+   * Resolves the plain String values of all constants (later sources override earlier ones).
+   *
+   * @param module      Module.
+   * @param strutsModel StrutsModel.
+   * @param webFacet    Web facet of current context.
+   * @return Constant name to value.
+   */
+  @NotNull
+  private static Map<String, String> computeStringValues(@NotNull final Module module,
+                                                         @NotNull final StrutsModel strutsModel,
+                                                         @Nullable final WebFacet webFacet) {
+    final Project project = module.getProject();
+    final Map<String, String> values = new HashMap<>();
+
+    // 1. default.properties from struts2-core.jar
+    final String defaultPropertiesName = StringUtil.getShortName(STRUTS_DEFAULT_PROPERTIES, '/');
+    collectProperties(values, project, defaultPropertiesName, GlobalSearchScope.allScope(project), virtualFile ->
+      virtualFile.getFileSystem() instanceof JarFileSystem &&
+      StringUtil.endsWith(virtualFile.getPath(), STRUTS_DEFAULT_PROPERTIES) &&
+      ModuleUtilCore.moduleContainsFile(module, virtualFile, true));
 
+    // 2. <constant> from StrutsModel
     final List<DomFileElement<StrutsRoot>> domFileElements = new ArrayList<>();
     collectStrutsXmls(domFileElements, strutsModel, "struts-default.xml", true);
     collectStrutsXmls(domFileElements, strutsModel, "struts-plugin.xml", true);
     collectStrutsXmls(domFileElements, strutsModel, "struts.xml", false);
     for (final DomFileElement<StrutsRoot> domFileElement : domFileElements) {
-      final Constant constant = ContainerUtil.find(domFileElement.getRootElement().getConstants(),
-                                                   constantNameCondition);
-      final String strutsXmlValue = constant != null ? constant.getValue().getStringValue() : null;
-      if (strutsXmlValue != null) {
-        value = strutsXmlValue;
+      final Map<String, String> fileValues = new HashMap<>();
+      for (final Constant constant : domFileElement.getRootElement().getConstants()) {
+        final String name = constant.getName().getStringValue();
+        final String strutsXmlValue = constant.getValue().getStringValue();
+        if (name != null && strutsXmlValue != null) {
+          fileValues.putIfAbsent(name, strutsXmlValue);
+        }
       }
+      values.putAll(fileValues);
     }
 
     // 3. struts.properties in current module
-    final IProperty strutsProperty = ContainerUtil.find(properties, property -> {
-      final VirtualFile virtualFile = property.getPropertiesFile().getVirtualFile();
-      return virtualFile != null &&
-             Objects.equals(virtualFile.getName(), STRUTS_PROPERTIES_FILENAME) &&
-             ModuleUtilCore.moduleContainsFile(module, virtualFile, false);
-    });
-    if (strutsProperty != null) {
-      value = strutsProperty.getValue();
-    }
+    collectProperties(values, project, STRUTS_PROPERTIES_FILENAME, GlobalSearchScope.allScope(project),
+                      virtualFile -> ModuleUtilCore.moduleContainsFile(module, virtualFile, false));
 
     // 4. web.xml
-    final WebFacet webFacet = WebUtil.getWebFacet(context);
     if (webFacet == null) {
-      return value; // should not happen in real projects..
+      return values; // should not happen in real projects..
     }
     final WebApp webApp = webFacet.getRoot();
     if (webApp == null) {
-      return value; // no web.xml
+      return values; // no web.xml
     }
 
     final Filter filter = ContainerUtil.find(webApp.getFilters(), WEB_XML_STRUTS_FILTER_CONDITION);
     if (filter != null) {
-      final CommonParamValue initParam = ContainerUtil.find(filter.getInitParams(),
-                                                            (Condition<CommonParamValue>)paramValue -> Objects.equals(
-                                                        paramValue.getParamName().getStringValue(), name));
-      if (initParam != null) {
-        value = initParam.getParamValue().getStringValue();
+      final Map<String, String> initParamValues = new HashMap<>();
+      for (final CommonParamValue initParam : filter.getInitParams()) {
+        final String name = initParam.getParamName().getStringValue();
+        if (name != null) {
+          initParamValues.putIfAbsent(name, initParam.getParamValue().getStringValue());
+        }
       }
+      values.putAll(initParamValues);
     }
 
-    return value;
+    return values;
+  }
+
+  /**
+   * Adds all properties from the first matching properties file defining the respective key.
+   *
+   * @param values     Values to add to.
+   * @param project    Project.
+   * @param fileName   Properties filename.
+   * @param scope      Search scope.
+   * @param fileFilter Filter for properties files.
+   */
+  private static void collectProperties(@NotNull final Map<String, String> values,
+                                        @NotNull final Project project,
+                                        @NotNull @NonNls final String fileName,
+                                        @NotNull final GlobalSearchScope scope,
+                                        @NotNull final Condition<VirtualFile> fileFilter) {
+    final PsiManager psiManager = PsiManager.getInstance(project);
+    final Map<String, String> propertiesValues = new HashMap<>();
+    for (final VirtualFile virtualFile : FilenameIndex.getVirtualFilesByName(fileName, scope)) {
+      if (!fileFilter.value(virtualFile)) {
+        continue;
+      }
+
+      final PropertiesFile propertiesFile = PropertiesImplUtil.getPropertiesFile(psiManager.findFile(virtualFile));
+      if (propertiesFile == null) {
+        continue;
+      }
+
+      for (final IProperty property : propertiesFile.getProperties()) {
+        final String key = property.getUnescapedKey();
+        final String value = property.getValue();
+        if (key != null && value != null) {
+          propertiesValues.putIfAbsent(key, value);
+        }
+      }
+    }
+    values.putAll(propertiesValues);
   }
 
   /**
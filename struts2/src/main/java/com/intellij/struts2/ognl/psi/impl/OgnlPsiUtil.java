@@ -18,6 +18,7 @@ package com.intellij.lang.ognl.psi.impl;
 import com.intellij.lang.ASTNode;
 import com.intellij.lang.ognl.OgnlTypes;
 import com.intellij.lang.ognl.psi.*;
+import com.intellij.lang.ognl.psi.resolve.OgnlTypeResolver;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.*;
 import com.intellij.psi.impl.source.resolve.reference.impl.providers.JavaClassReferenceProvider;
@@ -85,6 +86,13 @@ final class OgnlPsiUtil {
       return getType(argument);
     }
 
+    if (expression instanceof OgnlReferenceExpression ||
+        expression instanceof OgnlIndexedExpression ||
+        expression instanceof OgnlMethodCallExpression ||
+        expression instanceof OgnlVariableExpression) {
+      return OgnlTypeResolver.getType(expression);
+    }
+
     return null;
   }
 
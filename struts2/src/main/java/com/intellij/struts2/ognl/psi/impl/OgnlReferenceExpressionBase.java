@@ -15,17 +15,25 @@
 
 package com.intellij.lang.ognl.psi.impl;
 
+import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.codeInsight.lookup.LookupElementBuilder;
 import com.intellij.ide.projectView.PresentationData;
 import com.intellij.lang.ASTNode;
 import com.intellij.lang.ognl.OgnlTypes;
+import com.intellij.lang.ognl.psi.resolve.OgnlTypeResolver;
 import com.intellij.navigation.ItemPresentation;
 import com.intellij.openapi.util.TextRange;
-import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiReference;
-import com.intellij.psi.PsiReferenceBase;
+import com.intellij.psi.*;
+import com.intellij.psi.impl.source.tree.LeafElement;
+import com.intellij.psi.util.PropertyUtilBase;
 import com.intellij.ui.IconManager;
 import com.intellij.util.ArrayUtilRt;
+import com.intellij.util.IncorrectOperationException;
+import com.intellij.util.containers.ContainerUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
 
 /**
  * @author Yann C&eacute;bron
@@ -57,7 +65,9 @@ abstract class OgnlReferenceExpressionBase extends OgnlExpressionImpl {
 
       @Override
       public PsiElement resolve() {
-        return myElement;
+        final OgnlTypeResolver.Segment lastSegment =
+          ContainerUtil.getLastItem(OgnlTypeResolver.resolveChain(OgnlReferenceExpressionBase.this).getSegments());
+        return lastSegment != null && lastSegment.getTarget() != null ? lastSegment.getTarget() : myElement;
       }
 
       @Override
@@ -76,4 +86,116 @@ abstract class OgnlReferenceExpressionBase extends OgnlExpressionImpl {
       }
     };
   }
+
+  /**
+   * @return One reference per identifier of property chain, whole expression for static references.
+   */
+  @Override
+  public PsiReference @NotNull [] getReferences() {
+    final List<OgnlTypeResolver.Segment> segments = OgnlTypeResolver.resolveChain(this).getSegments();
+    if (segments.isEmpty()) {
+      return new PsiReference[]{getReference()};
+    }
+
+    return ContainerUtil.map2Array(segments, PsiReference.class,
+                                   segment -> new OgnlMemberReference(this, segment.getIdentifier()));
+  }
+
+
+  /**
+   * Resolves to getter, field or method; to the expression itself if qualifier type is unknown.
+   */
+  private static final class OgnlMemberReference extends PsiReferenceBase<OgnlReferenceExpressionBase> {
+
+    private final PsiElement myIdentifier;
+
+    private OgnlMemberReference(@NotNull OgnlReferenceExpressionBase element,
+                                @NotNull PsiElement identifier) {
+      super(element, TextRange.from(identifier.getStartOffsetInParent(), identifier.getTextLength()));
+      myIdentifier = identifier;
+    }
+
+    @Nullable
+    private OgnlTypeResolver.Segment getSegment() {
+      return OgnlTypeResolver.resolveChain(getElement()).findSegment(myIdentifier);
+    }
+
+    @Override
+    public PsiElement resolve() {
+      final OgnlTypeResolver.Segment segment = getSegment();
+      return segment != null && segment.getTarget() != null ? segment.getTarget() : myElement;
+    }
+
+    @Override
+    public Object @NotNull [] getVariants() {
+      final OgnlTypeResolver.Segment segment = getSegment();
+      final PsiType qualifierType = segment != null ? segment.getQualifierType() : null;
+      final PsiClass psiClass = qualifierType instanceof PsiClassType ? ((PsiClassType)qualifierType).resolve() : null;
+      if (psiClass == null) {
+        return ArrayUtilRt.EMPTY_OBJECT_ARRAY;
+      }
+
+      final List<LookupElement> variants = new ArrayList<>();
+      final Set<String> names = new HashSet<>();
+      for (Map.Entry<String, PsiMethod> entry : PropertyUtilBase.getAllProperties(psiClass, false, true).entrySet()) {
+        final PsiMethod getter = entry.getValue();
+        final PsiType propertyType = PropertyUtilBase.getPropertyType(getter);
+        if (names.add(entry.getKey())) {
+          variants.add(LookupElementBuilder.create(getter, entry.getKey())
+                         .withIcon(getter.getIcon(0))
+                         .withStrikeoutness(getter.isDeprecated())
+                         .withTypeText(propertyType != null ? propertyType.getPresentableText() : null));
+        }
+      }
+
+      for (PsiField field : psiClass.getAllFields()) {
+        if (field.hasModifierProperty(PsiModifier.PUBLIC) && names.add(field.getName())) {
+          variants.add(LookupElementBuilder.create(field)
+                         .withIcon(field.getIcon(0))
+                         .withStrikeoutness(field.isDeprecated())
+                         .withTypeText(field.getType().getPresentableText()));
+        }
+      }
+
+      final Set<String> methodNames = new HashSet<>();
+      for (PsiMethod method : psiClass.getAllMethods()) {
+        if (method.isConstructor() ||
+            !method.hasModifierProperty(PsiModifier.PUBLIC) ||
+            isObjectMethod(method) ||
+            !methodNames.add(method.getName())) {
+          continue;
+        }
+
+        final PsiType returnType = method.getReturnType();
+        variants.add(LookupElementBuilder.create(method)
+                       .withIcon(method.getIcon(0))
+                       .withStrikeoutness(method.isDeprecated())
+                       .withTailText(method.getParameterList().isEmpty() ? "()" : "(...)", true)
+                       .withTypeText(returnType != null ? returnType.getPresentableText() : null));
+      }
+      return variants.toArray();
+    }
+
+    private static boolean isObjectMethod(@NotNull PsiMethod method) {
+      final PsiClass containingClass = method.getContainingClass();
+      return containingClass != null && CommonClassNames.JAVA_LANG_OBJECT.equals(containingClass.getQualifiedName());
+    }
+
+    @Override
+    public PsiElement handleElementRename(@NotNull String newElementName) throws IncorrectOperationException {
+      String name = newElementName;
+      final OgnlTypeResolver.Segment segment = getSegment();
+      if (segment != null &&
+          segment.getTarget() instanceof PsiMethod &&
+          PropertyUtilBase.isSimplePropertyGetter((PsiMethod)segment.getTarget())) {
+        final String propertyName = PropertyUtilBase.getPropertyName(newElementName);
+        if (propertyName != null) {
+          name = propertyName;
+        }
+      }
+
+      ((LeafElement)myIdentifier.getNode()).replaceWithText(name);
+      return myElement;
+    }
+  }
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 The authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.intellij.lang.ognl.psi.resolve;
+
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Provides the type of the (value stack) root object unqualified OGNL property references are resolved against.
+ * <p/>
+ * Called for every unqualified reference, implementations should cache per host file.
+ */
+public abstract class OgnlRootTypeProvider {
+
+  /**
+   * @return {@code null} if root type is unknown in this context.
+   */
+  @Nullable
+  public abstract PsiType getRootType(@NotNull PsiElement element,
+                                      @NotNull PsiFile containingFile);
+}
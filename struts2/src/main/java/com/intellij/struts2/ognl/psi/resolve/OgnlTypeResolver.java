@@ -0,0 +1,430 @@
+/*
+ * Copyright 2026 The authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.intellij.lang.ognl.psi.resolve;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.lang.ognl.OgnlTypes;
+import com.intellij.lang.ognl.psi.*;
+import com.intellij.lang.ognl.psi.resolve.variable.OgnlVariableReference;
+import com.intellij.openapi.extensions.ExtensionPointName;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.*;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.TokenSet;
+import com.intellij.psi.util.*;
+import com.intellij.util.CommonProcessors;
+import com.intellij.util.SmartList;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Infers types of OGNL property chains, method calls, projections and selections.
+ * <p/>
+ * Unqualified references are resolved against the value stack root type provided via {@link OgnlRootTypeProvider},
+ * references inside projections/selections against the element type of the projected/selected collection.
+ * Results are cached per expression.
+ */
+public final class OgnlTypeResolver {
+
+  @NonNls
+  private static final ExtensionPointName<OgnlRootTypeProvider> ROOT_TYPE_PROVIDER_EP_NAME =
+    new ExtensionPointName<>("com.intellij.ognl.rootTypeProvider");
+
+  @NonNls
+  private static final String THIS_VARIABLE = "this";
+  @NonNls
+  private static final String ROOT_VARIABLE = "root";
+  @NonNls
+  private static final String ARRAY_LENGTH = "length";
+
+  private static final TokenSet FIRST_LAST_SELECTORS = TokenSet.create(OgnlTypes.XOR, OgnlTypes.DOLLAR);
+
+  private OgnlTypeResolver() {
+  }
+
+  /**
+   * @param expression Reference, indexed, method call or variable expression.
+   * @return {@code null} if type could not be inferred.
+   */
+  @Nullable
+  public static PsiType getType(@NotNull OgnlExpression expression) {
+    if (expression instanceof OgnlVariableExpression) {
+      return getVariableType((OgnlVariableExpression)expression);
+    }
+
+    if (expression instanceof OgnlMethodCallExpression) {
+      final OgnlExpression method = ((OgnlMethodCallExpression)expression).getMethod();
+      return method instanceof OgnlReferenceExpression ? resolveChain(method).getType() : null;
+    }
+
+    if (expression instanceof OgnlReferenceExpression ||
+        expression instanceof OgnlIndexedExpression) {
+      return resolveChain(expression).getType();
+    }
+
+    return expression.getType();
+  }
+
+  /**
+   * Resolves all identifiers of the given reference or indexed expression.
+   *
+   * @param chain Reference or indexed expression.
+   * @return Cached resolution.
+   */
+  @NotNull
+  public static Resolution resolveChain(@NotNull OgnlExpression chain) {
+    return CachedValuesManager.getCachedValue(chain, () -> CachedValueProvider.Result.create(
+      walk(chain, null), PsiModificationTracker.getInstance(chain.getProject())));
+  }
+
+  @NotNull
+  private static Resolution walk(@NotNull OgnlExpression chain, @Nullable PsiElement stopAt) {
+    if (chain.getNode().findChildByType(OgnlTypes.AT) != null) {
+      return Resolution.EMPTY; // static field/method reference
+    }
+
+    PsiElement child = chain.getFirstChild();
+    PsiType type;
+    if (chain instanceof OgnlIndexedExpression) {
+      type = getIndexedElementType(getType(((OgnlIndexedExpression)chain).getReferenceQualifier()));
+      final ASTNode rBracket = chain.getNode().findChildByType(OgnlTypes.RBRACKET);
+      child = rBracket != null ? rBracket.getPsi().getNextSibling() : null;
+    }
+    else if (child instanceof OgnlVariableExpression) {
+      type = getVariableType((OgnlVariableExpression)child);
+      child = child.getNextSibling();
+    }
+    else {
+      type = getContextType(chain);
+    }
+
+    final PsiElement methodName = getMethodNameIdentifier(chain);
+    final List<Segment> segments = new SmartList<>();
+    for (; child != null && child != stopAt; child = child.getNextSibling()) {
+      final IElementType elementType = child.getNode().getElementType();
+      if (elementType == OgnlTypes.IDENTIFIER) {
+        final Segment segment = child == methodName ?
+                                resolveMethod(type, child, getParameterCount(chain)) :
+                                resolveProperty(type, child);
+        segments.add(segment);
+        type = segment.getType();
+      }
+      else if (child instanceof OgnlSelectionExpression) {
+        if (child.getNode().findChildByType(FIRST_LAST_SELECTORS) != null) {
+          type = getIterableElementType(type);
+        }
+      }
+      else if (child instanceof OgnlProjectionExpression) {
+        final OgnlExpression projection = ((OgnlProjectionExpression)child).getProjectionExpression();
+        type = createListType(chain, projection != null ? getType(projection) : null);
+      }
+    }
+    return new Resolution(segments, type);
+  }
+
+  /**
+   * @return Element type of enclosing projection/selection or root type.
+   */
+  @Nullable
+  private static PsiType getContextType(@NotNull PsiElement element) {
+    final PsiElement scope = PsiTreeUtil.getParentOfType(element, OgnlProjectionExpression.class, OgnlSelectionExpression.class);
+    if (scope == null) {
+      return getRootType(element);
+    }
+
+    final PsiElement chain = scope.getParent();
+    if (!(chain instanceof OgnlReferenceExpression || chain instanceof OgnlIndexedExpression)) {
+      return null;
+    }
+    return getIterableElementType(walk((OgnlExpression)chain, scope).getType());
+  }
+
+  @Nullable
+  private static PsiType getRootType(@NotNull PsiElement element) {
+    final PsiFile containingFile = element.getContainingFile();
+    for (OgnlRootTypeProvider provider : ROOT_TYPE_PROVIDER_EP_NAME.getExtensionList()) {
+      final PsiType rootType = provider.getRootType(element, containingFile);
+      if (rootType != null) {
+        return rootType;
+      }
+    }
+    return null;
+  }
+
+  @Nullable
+  private static PsiType getVariableType(@NotNull OgnlVariableExpression expression) {
+    final ASTNode nameNode = expression.getNode().findChildByType(OgnlTypes.IDENTIFIER);
+    if (nameNode == null) {
+      return null;
+    }
+
+    final String name = nameNode.getText();
+    if (THIS_VARIABLE.equals(name)) {
+      return getContextType(expression);
+    }
+    if (ROOT_VARIABLE.equals(name)) {
+      final PsiType rootType = getRootType(expression);
+      if (rootType != null) {
+        return rootType;
+      }
+    }
+
+    final CommonProcessors.FindFirstProcessor<OgnlVariableReference> processor =
+      new CommonProcessors.FindFirstProcessor<>() {
+        @Override
+        protected boolean accept(OgnlVariableReference reference) {
+          return reference.getName().equals(name);
+        }
+      };
+    OgnlResolveUtil.processVariables(expression, processor);
+    return processor.isFound() ? processor.getFoundValue().getType() : null;
+  }
+
+  @Nullable
+  private static PsiElement getMethodNameIdentifier(@NotNull OgnlExpression chain) {
+    final PsiElement parent = chain.getParent();
+    if (!(parent instanceof OgnlMethodCallExpression) ||
+        ((OgnlMethodCallExpression)parent).getMethod() != chain) {
+      return null;
+    }
+
+    for (PsiElement child = chain.getLastChild(); child != null; child = child.getPrevSibling()) {
+      if (child.getNode().getElementType() == OgnlTypes.IDENTIFIER) {
+        return child;
+      }
+    }
+    return null;
+  }
+
+  private static int getParameterCount(@NotNull OgnlExpression chain) {
+    final OgnlParameterList parameterList = ((OgnlMethodCallExpression)chain.getParent()).getParameterList();
+    return parameterList != null ? parameterList.getParameterCount() : 0;
+  }
+
+  @NotNull
+  private static Segment resolveMethod(@Nullable PsiType qualifierType,
+                                       @NotNull PsiElement identifier,
+                                       int parameterCount) {
+    final PsiClassType.ClassResolveResult resolveResult = resolveClass(qualifierType);
+    final PsiClass psiClass = resolveResult.getElement();
+    if (psiClass == null) {
+      return new Segment(identifier, qualifierType, null, null);
+    }
+
+    for (PsiMethod method : psiClass.findMethodsByName(identifier.getText(), true)) {
+      if (method.getParameterList().getParametersCount() == parameterCount) {
+        return new Segment(identifier, qualifierType, method,
+                           substitute(method, method.getReturnType(), psiClass, resolveResult.getSubstitutor()));
+      }
+    }
+    return new Segment(identifier, qualifierType, null, null);
+  }
+
+  @NotNull
+  private static Segment resolveProperty(@Nullable PsiType qualifierType,
+                                         @NotNull PsiElement identifier) {
+    final String name = identifier.getText();
+    if (qualifierType instanceof PsiArrayType) {
+      return new Segment(identifier, qualifierType, null, ARRAY_LENGTH.equals(name) ? PsiTypes.intType() : null);
+    }
+
+    final PsiClassType.ClassResolveResult resolveResult = resolveClass(qualifierType);
+    final PsiClass psiClass = resolveResult.getElement();
+    if (psiClass == null) {
+      return new Segment(identifier, qualifierType, null, null);
+    }
+
+    final PsiMethod getter = PropertyUtilBase.findPropertyGetter(psiClass, name, false, true);
+    if (getter != null) {
+      return new Segment(identifier, qualifierType, getter,
+                         substitute(getter, getter.getReturnType(), psiClass, resolveResult.getSubstitutor()));
+    }
+
+    final PsiField field = psiClass.findFieldByName(name, true);
+    if (field != null) {
+      return new Segment(identifier, qualifierType, field,
+                         substitute(field, field.getType(), psiClass, resolveResult.getSubstitutor()));
+    }
+
+    if (InheritanceUtil.isInheritor(qualifierType, CommonClassNames.JAVA_UTIL_MAP)) {
+      return new Segment(identifier, qualifierType, null,
+                         getTypeParameter(qualifierType, CommonClassNames.JAVA_UTIL_MAP, 1));
+    }
+    return new Segment(identifier, qualifierType, null, null);
+  }
+
+  @NotNull
+  private static PsiClassType.ClassResolveResult resolveClass(@Nullable PsiType type) {
+    return type instanceof PsiClassType ? ((PsiClassType)type).resolveGenerics() : PsiClassType.ClassResolveResult.EMPTY;
+  }
+
+  @Nullable
+  private static PsiType substitute(@NotNull PsiMember member,
+                                    @Nullable PsiType type,
+                                    @NotNull PsiClass psiClass,
+                                    @NotNull PsiSubstitutor substitutor) {
+    final PsiClass containingClass = member.getContainingClass();
+    if (type == null || containingClass == null) {
+      return type;
+    }
+
+    final PsiSubstitutor memberSubstitutor = TypeConversionUtil.getClassSubstitutor(containingClass, psiClass, substitutor);
+    return memberSubstitutor != null ? memberSubstitutor.substitute(type) : type;
+  }
+
+  /**
+   * @return Element type for {@code collection[index]}.
+   */
+  @Nullable
+  private static PsiType getIndexedElementType(@Nullable PsiType type) {
+    if (type instanceof PsiArrayType) {
+      return ((PsiArrayType)type).getComponentType();
+    }
+    if (InheritanceUtil.isInheritor(type, CommonClassNames.JAVA_UTIL_MAP)) {
+      return getTypeParameter(type, CommonClassNames.JAVA_UTIL_MAP, 1);
+    }
+    if (InheritanceUtil.isInheritor(type, CommonClassNames.JAVA_UTIL_LIST)) {
+      return getTypeParameter(type, CommonClassNames.JAVA_UTIL_LIST, 0);
+    }
+    return null;
+  }
+
+  /**
+   * @return Element type for projection/selection.
+   */
+  @Nullable
+  private static PsiType getIterableElementType(@Nullable PsiType type) {
+    if (type instanceof PsiArrayType) {
+      return ((PsiArrayType)type).getComponentType();
+    }
+    return unwrapWildcard(PsiUtil.extractIterableTypeParameter(type, false));
+  }
+
+  @Nullable
+  private static PsiType getTypeParameter(@Nullable PsiType type, @NotNull String superClassName, int index) {
+    return unwrapWildcard(PsiUtil.substituteTypeParameter(type, superClassName, index, false));
+  }
+
+  @Nullable
+  private static PsiType unwrapWildcard(@Nullable PsiType type) {
+    return type instanceof PsiWildcardType ? ((PsiWildcardType)type).getExtendsBound() : type;
+  }
+
+  @Nullable
+  private static PsiType createListType(@NotNull PsiElement context, @Nullable PsiType elementType) {
+    final Project project = context.getProject();
+    final PsiClass listClass =
+      JavaPsiFacade.getInstance(project).findClass(CommonClassNames.JAVA_UTIL_LIST, context.getResolveScope());
+    if (listClass == null) {
+      return null;
+    }
+
+    final PsiElementFactory elementFactory = JavaPsiFacade.getElementFactory(project);
+    final PsiType boxedType = elementType instanceof PsiPrimitiveType ?
+                              ((PsiPrimitiveType)elementType).getBoxedType(context) : elementType;
+    return boxedType == null || PsiTypes.nullType().equals(boxedType) ?
+           elementFactory.createType(listClass) :
+           elementFactory.createType(listClass, boxedType);
+  }
+
+
+  /**
+   * Resolved identifiers and resulting type of a reference or indexed expression.
+   */
+  public static final class Resolution {
+
+    private static final Resolution EMPTY = new Resolution(Collections.emptyList(), null);
+
+    private final List<Segment> mySegments;
+    private final PsiType myType;
+
+    private Resolution(@NotNull List<Segment> segments, @Nullable PsiType type) {
+      mySegments = segments;
+      myType = type;
+    }
+
+    @NotNull
+    public List<Segment> getSegments() {
+      return mySegments;
+    }
+
+    @Nullable
+    public Segment findSegment(@NotNull PsiElement identifier) {
+      for (Segment segment : mySegments) {
+        if (segment.getIdentifier() == identifier) {
+          return segment;
+        }
+      }
+      return null;
+    }
+
+    @Nullable
+    public PsiType getType() {
+      return myType;
+    }
+  }
+
+  /**
+   * Single identifier of a property chain.
+   */
+  public static final class Segment {
+
+    private final PsiElement myIdentifier;
+    private final PsiType myQualifierType;
+    private final PsiElement myTarget;
+    private final PsiType myType;
+
+    private Segment(@NotNull PsiElement identifier,
+                    @Nullable PsiType qualifierType,
+                    @Nullable PsiElement target,
+                    @Nullable PsiType type) {
+      myIdentifier = identifier;
+      myQualifierType = qualifierType;
+      myTarget = target;
+      myType = type;
+    }
+
+    @NotNull
+    public PsiElement getIdentifier() {
+      return myIdentifier;
+    }
+
+    /**
+     * @return Type the identifier is resolved against, {@code null} if unknown.
+     */
+    @Nullable
+    public PsiType getQualifierType() {
+      return myQualifierType;
+    }
+
+    /**
+     * @return Resolved getter, field or method.
+     */
+    @Nullable
+    public PsiElement getTarget() {
+      return myTarget;
+    }
+
+    @Nullable
+    public PsiType getType() {
+      return myType;
+    }
+  }
+}
@@ -3,9 +3,9 @@ package com.intellij.struts2.preview;
 
 import com.intellij.javaee.web.DeployedFileUrlConverter;
 import com.intellij.javaee.web.facet.WebFacet;
-import com.intellij.openapi.paths.PathReference;
-import com.intellij.psi.PsiElement;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
+import com.intellij.struts2.dom.struts.action.Action;
 import com.intellij.struts2.dom.struts.action.Result;
 import com.intellij.struts2.dom.struts.model.StrutsManager;
 import com.intellij.struts2.dom.struts.model.StrutsModel;
@@ -22,6 +22,11 @@ import java.util.*;
 final class Struts2UrlConverter extends DeployedFileUrlConverter {
   @Override
   public Collection<String> getTargetPaths(@NotNull final PsiFile sourceFile, @NotNull final WebFacet webFacet) {
+    final VirtualFile virtualFile = sourceFile.getVirtualFile();
+    if (virtualFile == null) {
+      return Collections.emptyList();
+    }
+
     final StrutsModel combinedModel = StrutsManager.getInstance(sourceFile.getProject()).getCombinedModel(webFacet.getModule());
     if (combinedModel == null) {
       return Collections.emptyList();
@@ -35,22 +40,16 @@ final class Struts2UrlConverter extends DeployedFileUrlConverter {
     final String actionExtension = actionExtensions.get(0);
 
     @NonNls final ArrayList<String> list = new ArrayList<>();
-    combinedModel.processActions(action -> {
-      for (final Result result : action.getResults()) {
-        final PathReference pathReference = result.getValue();
-        if (pathReference != null) {
-          final PsiElement psiElement = pathReference.resolve();
-          if (psiElement != null && psiElement.equals(sourceFile)) {
-            String namespace = action.getNamespace();
-            if (!Objects.equals(namespace, StrutsPackage.DEFAULT_NAMESPACE)) {
-              namespace += "/";
-            }
-            list.add(namespace + action.getName().getStringValue() + actionExtension);
-          }
+    for (final Result result : combinedModel.findResultsForView(virtualFile)) {
+      final Action action = result.getParentOfType(Action.class, true);
+      if (action != null) {
+        String namespace = action.getNamespace();
+        if (!Objects.equals(namespace, StrutsPackage.DEFAULT_NAMESPACE)) {
+          namespace += "/";
         }
+        list.add(namespace + action.getName().getStringValue() + actionExtension);
       }
-      return true;
-    });
+    }
 
     return list;
   }
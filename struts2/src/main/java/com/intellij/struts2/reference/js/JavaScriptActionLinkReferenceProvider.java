@@ -25,6 +25,7 @@ import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiReferenceBase;
 import com.intellij.psi.PsiReferenceProvider;
 import com.intellij.struts2.Struts2Icons;
+import com.intellij.struts2.diagnostic.StrutsPerformanceStats;
 import com.intellij.struts2.dom.struts.action.Action;
 import com.intellij.struts2.dom.struts.model.StrutsManager;
 import com.intellij.struts2.dom.struts.model.StrutsModel;
@@ -41,8 +42,6 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static com.intellij.struts2.reference.ActionUtils.getActionName;
 
@@ -54,8 +53,6 @@ import static com.intellij.struts2.reference.ActionUtils.getActionName;
  */
 public class JavaScriptActionLinkReferenceProvider extends PsiReferenceProvider {
 
-  // No longer using a static pattern - we'll dynamically check for configured action extensions
-
   @Override
   public PsiReference @NotNull [] getReferencesByElement(@NotNull final PsiElement psiElement,
                                                          @NotNull final ProcessingContext context) {
@@ -68,59 +65,43 @@ public class JavaScriptActionLinkReferenceProvider extends PsiReferenceProvider
       return PsiReference.EMPTY_ARRAY;
     }
 
-    final StrutsManager strutsManager = StrutsManager.getInstance(psiElement.getProject());
-    final StrutsModel strutsModel = strutsManager.getCombinedModel(psiElement);
-    if (strutsModel == null) {
+    final String literalValue = jsLiteral.getStringValue();
+    if (literalValue == null) {
       return PsiReference.EMPTY_ARRAY;
     }
 
-    final List<String> actionExtensions = StrutsConstantHelper.getActionExtensions(psiElement);
-    final String literalValue = jsLiteral.getStringValue();
-    if (literalValue == null) {
+    return StrutsPerformanceStats.JS_ACTION_LINK_REFERENCES.compute(() -> createReferences(jsLiteral, literalValue));
+  }
+
+  private static PsiReference @NotNull [] createReferences(@NotNull final JSLiteralExpression jsLiteral,
+                                                           @NotNull final String literalValue) {
+    // cheap pre-check before touching the model
+    final List<String> actionExtensions = StrutsConstantHelper.getActionExtensions(jsLiteral);
+    if (!ContainerUtil.exists(actionExtensions, literalValue::contains)) {
       return PsiReference.EMPTY_ARRAY;
     }
 
     // Find action URL with any configured extension in the string
-    final String actionUrl = findActionUrlInString(literalValue, actionExtensions);
-    if (actionUrl == null) {
+    final TextRange actionUrlRange = findActionUrlInString(literalValue, actionExtensions);
+    if (actionUrlRange == null) {
       return PsiReference.EMPTY_ARRAY;
     }
 
+    final String actionUrl = actionUrlRange.substring(literalValue);
     final String ourActionExtension = ContainerUtil.find(actionExtensions, s -> StringUtil.endsWith(actionUrl, s));
     if (ourActionExtension == null) {
       return PsiReference.EMPTY_ARRAY;
     }
 
-    // Calculate the text range within the string literal
-    // Look for the action URL pattern in the original literal value
-    int startOffset = -1;
-    for (final String extension : actionExtensions) {
-      final String escapedExtension = Pattern.quote(extension);
-      // First try to find JSP expression pattern
-      final Pattern jspPattern = Pattern.compile("(\\$\\{[^}]+\\})?(/[^'\"]*" + escapedExtension + ")");
-      final Matcher jspMatcher = jspPattern.matcher(literalValue);
-      if (jspMatcher.find() && jspMatcher.group(2).equals(actionUrl)) {
-        // Found JSP pattern, use the start of the path part (group 2)
-        startOffset = jspMatcher.start(2);
-        break;
-      }
-      
-      // Fallback to original pattern
-      final Pattern fallbackPattern = Pattern.compile("([^'\"]*" + escapedExtension + ")");
-      final Matcher fallbackMatcher = fallbackPattern.matcher(literalValue);
-      if (fallbackMatcher.find() && fallbackMatcher.group(1).equals(actionUrl)) {
-        startOffset = fallbackMatcher.start(1);
-        break;
-      }
-    }
-    
-    if (startOffset == -1) {
+    final StrutsManager strutsManager = StrutsManager.getInstance(jsLiteral.getProject());
+    final StrutsModel strutsModel = strutsManager.getCombinedModel(jsLiteral);
+    if (strutsModel == null) {
       return PsiReference.EMPTY_ARRAY;
     }
 
     // Adjust for quote character offset
     final int quoteOffset = 1; // Account for opening quote
-    final TextRange textRange = TextRange.from(startOffset + quoteOffset, actionUrl.length());
+    final TextRange textRange = actionUrlRange.shiftRight(quoteOffset);
 
     return new PsiReference[]{new JavaScriptActionReference(jsLiteral, textRange, actionUrl, ourActionExtension, strutsModel)};
   }
@@ -130,30 +111,93 @@ public class JavaScriptActionLinkReferenceProvider extends PsiReferenceProvider
    * Handles JSP expressions like ${ctx}/path/action.do by extracting the path part.
    * @param literalValue the string literal value to search in
    * @param actionExtensions list of configured action extensions
-   * @return the action URL if found, null otherwise
+   * @return range of the action URL if found, null otherwise
    */
   @Nullable
-  private static String findActionUrlInString(@NotNull final String literalValue, @NotNull final List<String> actionExtensions) {
+  private static TextRange findActionUrlInString(@NotNull final String literalValue, @NotNull final List<String> actionExtensions) {
     for (final String extension : actionExtensions) {
-      // Create a pattern for this specific extension that handles JSP expressions
-      final String escapedExtension = Pattern.quote(extension);
-      // Pattern to match URLs like ${ctx}/path/action.do or /path/action.do
-      final Pattern pattern = Pattern.compile("(?:\\$\\{[^}]+\\})?(/[^'\"]*" + escapedExtension + ")(?:\\\\?.*)?");
-      final Matcher matcher = pattern.matcher(literalValue);
-      if (matcher.find()) {
-        return matcher.group(1); // Return the /path/action.do part without JSP expression prefix
+      // URLs like ${ctx}/path/action.do or /path/action.do
+      final TextRange pathRange = findAbsoluteActionUrl(literalValue, extension);
+      if (pathRange != null) {
+        return pathRange; // the /path/action.do part without JSP expression prefix
       }
-      
-      // Fallback to original pattern for URLs without JSP expressions
-      final Pattern fallbackPattern = Pattern.compile("([^'\"]*" + escapedExtension + ")(?:\\\\?.*)?(?:['\"].*)?$");
-      final Matcher fallbackMatcher = fallbackPattern.matcher(literalValue);
-      if (fallbackMatcher.find()) {
-        return fallbackMatcher.group(1);
+
+      // Fallback for URLs without leading slash
+      final TextRange fallbackRange = findRelativeActionUrl(literalValue, extension);
+      if (fallbackRange != null) {
+        return fallbackRange;
       }
     }
     return null;
   }
 
+  /**
+   * Finds the first {@code /...extension} not containing quotes, optionally preceded by a {@code ${...}} expression.
+   * The match extends to the last occurrence of the extension.
+   */
+  @Nullable
+  private static TextRange findAbsoluteActionUrl(@NotNull final String literalValue, @NotNull final String extension) {
+    final int length = literalValue.length();
+    for (int i = 0; i < length; i++) {
+      int slashIdx = -1;
+      if (literalValue.startsWith("${", i)) {
+        final int closingBraceIdx = literalValue.indexOf('}', i + 2);
+        if (closingBraceIdx > i + 2 &&
+            closingBraceIdx + 1 < length &&
+            literalValue.charAt(closingBraceIdx + 1) == '/') {
+          slashIdx = closingBraceIdx + 1;
+        }
+      }
+      else if (literalValue.charAt(i) == '/') {
+        slashIdx = i;
+      }
+      if (slashIdx == -1) {
+        continue;
+      }
+
+      final int extensionIdx = findLastExtension(literalValue, extension, slashIdx + 1);
+      if (extensionIdx != -1) {
+        return new TextRange(slashIdx, extensionIdx + extension.length());
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Finds the first quote-free section containing the extension, up to the last occurrence of the extension.
+   */
+  @Nullable
+  private static TextRange findRelativeActionUrl(@NotNull final String literalValue, @NotNull final String extension) {
+    int sectionStart = 0;
+    while (sectionStart <= literalValue.length()) {
+      final int extensionIdx = findLastExtension(literalValue, extension, sectionStart);
+      if (extensionIdx != -1) {
+        return new TextRange(sectionStart, extensionIdx + extension.length());
+      }
+      sectionStart = findQuote(literalValue, sectionStart) + 1;
+    }
+    return null;
+  }
+
+  /**
+   * @return start of last extension occurrence between {@code from} and the next quote, {@code -1} if none.
+   */
+  private static int findLastExtension(@NotNull final String literalValue, @NotNull final String extension, final int from) {
+    final int sectionEnd = findQuote(literalValue, from);
+    final int extensionIdx = literalValue.lastIndexOf(extension, sectionEnd - extension.length());
+    return extensionIdx >= from ? extensionIdx : -1;
+  }
+
+  private static int findQuote(@NotNull final String literalValue, final int from) {
+    for (int i = from; i < literalValue.length(); i++) {
+      final char c = literalValue.charAt(i);
+      if (c == '\'' || c == '"') {
+        return i;
+      }
+    }
+    return literalValue.length();
+  }
+
   private static final class JavaScriptActionReference extends PsiReferenceBase<JSLiteralExpression> implements EmptyResolveMessageProvider {
 
     private final String actionUrl;
@@ -27,6 +27,7 @@ import com.intellij.psi.PsiReferenceBase;
 import com.intellij.psi.html.HtmlTag;
 import com.intellij.struts2.Struts2Icons;
 import com.intellij.struts2.StrutsIcons;
+import com.intellij.struts2.diagnostic.StrutsPerformanceStats;
 import com.intellij.struts2.dom.struts.action.Action;
 import com.intellij.struts2.dom.struts.model.StrutsManager;
 import com.intellij.struts2.dom.struts.model.StrutsModel;
@@ -59,14 +60,22 @@ final class ActionLinkReferenceProvider extends CustomServletReferenceAdapter {
                                             final String text,
                                             @Nullable final ServletMappingInfo info,
                                             final boolean soft) {
-    final StrutsModel strutsModel = StrutsManager.getInstance(psiElement.getProject()).getCombinedModel(psiElement);
+    return StrutsPerformanceStats.ACTION_LINK_REFERENCES.compute(() -> doCreateReferences(psiElement, offset, text, soft));
+  }
 
-    if (strutsModel == null) {
+  private static PsiReference[] doCreateReferences(@NotNull final PsiElement psiElement,
+                                                   final int offset,
+                                                   final String text,
+                                                   final boolean soft) {
+    // cheap pre-check before touching the model: static resources like /css/site.css
+    final List<String> actionExtensions = StrutsConstantHelper.getActionExtensions(psiElement);
+    if (actionExtensions.isEmpty() ||
+        !isPossibleActionPath(text, actionExtensions)) {
       return PsiReference.EMPTY_ARRAY;
     }
 
-    final List<String> actionExtensions = StrutsConstantHelper.getActionExtensions(psiElement);
-    if (actionExtensions.isEmpty()) {
+    final StrutsModel strutsModel = StrutsManager.getInstance(psiElement.getProject()).getCombinedModel(psiElement);
+    if (strutsModel == null) {
       return PsiReference.EMPTY_ARRAY;
     }
 
@@ -83,6 +92,30 @@ final class ActionLinkReferenceProvider extends CustomServletReferenceAdapter {
     }
   }
 
+  /**
+   * Checks whether the given path might denote an Action: its last segment either has no extension at all
+   * (incomplete input or empty action extension) or ends with one of the action extensions.
+   *
+   * @param text             Path.
+   * @param actionExtensions Action extensions.
+   * @return {@code false} for paths to non-Action resources.
+   */
+  static boolean isPossibleActionPath(final String text, final List<String> actionExtensions) {
+    final String path = PathReference.trimPath(text);
+    final int lastSegmentStart = path.lastIndexOf('/') + 1;
+    if (path.indexOf('.', lastSegmentStart) == -1) {
+      return true;
+    }
+
+    for (final String actionExtension : actionExtensions) {
+      if (actionExtension.length() > 1 &&
+          StringUtil.endsWith(path, actionExtension)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   @Override
   @Nullable
   public PathReference createWebPath(final String path,
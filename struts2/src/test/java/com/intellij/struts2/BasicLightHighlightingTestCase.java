@@ -125,6 +125,7 @@ public abstract class BasicLightHighlightingTestCase extends LightJavaCodeInsigh
       final StrutsFacet existing = StrutsFacet.getInstance(getModule());
       if (existing != null) {
         existing.getConfiguration().getFileSets().clear();
+        existing.getConfiguration().setModified();
       }
       super.tearDown();
     }
@@ -147,12 +148,7 @@ public abstract class BasicLightHighlightingTestCase extends LightJavaCodeInsigh
    * @param strutsXmlPaths Paths to files or URL inside JAR from VFS
    */
   protected void createStrutsFileSet(@NonNls String... strutsXmlPaths) {
-    final StrutsFacet strutsFacet = StrutsFacet.getInstance(getModule());
-    assertNotNull(strutsFacet);
-    final StrutsFacetConfiguration facetConfiguration = strutsFacet.getConfiguration();
-
-    final StrutsFileSet fileSet = new StrutsFileSet("test", "test", facetConfiguration);
-    myStrutsFileSets.add(fileSet);
+    final List<VirtualFile> files = new ArrayList<>();
     for (String fileName : strutsXmlPaths) {
       VirtualFile file;
       if (fileName.contains("!")) {
@@ -167,9 +163,26 @@ public abstract class BasicLightHighlightingTestCase extends LightJavaCodeInsigh
       }
 
       assertNotNull("could not find file: '" + fileName + "'", file);
+      files.add(file);
+    }
+    createStrutsFileSet(files.toArray(VirtualFile.EMPTY_ARRAY));
+  }
+
+  /**
+   * @param strutsXmlFiles Files already present in VFS
+   */
+  protected void createStrutsFileSet(VirtualFile... strutsXmlFiles) {
+    final StrutsFacet strutsFacet = StrutsFacet.getInstance(getModule());
+    assertNotNull(strutsFacet);
+    final StrutsFacetConfiguration facetConfiguration = strutsFacet.getConfiguration();
+
+    final StrutsFileSet fileSet = new StrutsFileSet("test", "test", facetConfiguration);
+    myStrutsFileSets.add(fileSet);
+    for (VirtualFile file : strutsXmlFiles) {
       fileSet.addFile(file);
     }
     final Set<StrutsFileSet> strutsFileSetSet = facetConfiguration.getFileSets();
     strutsFileSetSet.add(fileSet);
+    facetConfiguration.setModified();
   }
 }
\ No newline at end of file
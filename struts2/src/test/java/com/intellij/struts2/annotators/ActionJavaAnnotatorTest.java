@@ -72,4 +72,14 @@ public class ActionJavaAnnotatorTest extends BasicLightHighlightingTestCase {
 
     checkGutterTargetElements("/com/MyValidationAction.java", psiElement -> ((PsiFile)psiElement).getName(), "MyValidationAction-validation.xml");
   }
+
+  public void testGutterValidationXmlWithContext() {
+    createStrutsFileSet("struts-validation.xml");
+    myFixture.copyFileToProject("/com/MyValidationAction-validation.xml");
+    myFixture.copyFileToProject("/com/MyValidationAction-context-validation.xml");
+    myFixture.copyFileToProject("/com/MyValidationActionOther-validation.xml");
+
+    checkGutterTargetElements("/com/MyValidationAction.java", psiElement -> ((PsiFile)psiElement).getName(),
+                              "MyValidationAction-validation.xml", "MyValidationAction-context-validation.xml");
+  }
 }
\ No newline at end of file
@@ -16,7 +16,13 @@
 package com.intellij.struts2.annotators;
 
 import com.intellij.codeInsight.intention.IntentionAction;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.struts2.BasicLightHighlightingTestCase;
+import com.intellij.struts2.dom.struts.model.StrutsManager;
+import com.intellij.struts2.facet.StrutsFacet;
+import com.intellij.struts2.facet.StrutsFacetConfiguration;
+import com.intellij.struts2.facet.ui.StrutsFileSet;
+import com.intellij.util.containers.ContainerUtil;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -45,6 +51,59 @@ public class StrutsFileSetCheckingAnnotatorTest extends BasicLightHighlightingTe
     assertIntentionFound(intention);
   }
 
+  public void testStrutsXmlInFileSet() {
+    createStrutsFileSet("struts-simple.xml");
+    myFixture.configureByFile("struts-simple.xml");
+    assertEmpty(myFixture.filterAvailableIntentions("Add struts-simple.xml to file set"));
+  }
+
+  public void testIsConfiguredInFileSet() {
+    createStrutsFileSet("struts-simple.xml");
+    final VirtualFile strutsSimple = myFixture.findFileInTempDir("struts-simple.xml");
+    final VirtualFile strutsDefault = myFixture.copyFileToProject("struts-default.xml");
+
+    final StrutsManager strutsManager = StrutsManager.getInstance(getProject());
+    assertTrue(strutsManager.isConfiguredInFileSet(getModule(), strutsSimple));
+    assertFalse(strutsManager.isConfiguredInFileSet(getModule(), strutsDefault));
+    assertFalse(strutsManager.isConfiguredInFileSet(getModule(), null));
+
+    final StrutsFileSet fileSet = strutsManager.getAllConfigFileSets(getModule()).iterator().next();
+    fileSet.addFile(strutsDefault);
+    assertTrue(fileSet.hasFile(strutsDefault));
+    StrutsFacet.getInstance(getModule()).getConfiguration().setModified();
+    assertTrue(strutsManager.isConfiguredInFileSet(getModule(), strutsDefault));
+  }
+
+  /**
+   * Replaces the file set with an edited copy like {@link com.intellij.struts2.facet.ui.FileSetConfigurationTab} does,
+   * the copy's own modification count restarts.
+   */
+  public void testIsConfiguredInFileSetAfterReplacingFileSet() {
+    createStrutsFileSet("struts-simple.xml", "struts-default.xml");
+    final VirtualFile strutsSimple = myFixture.findFileInTempDir("struts-simple.xml");
+    final VirtualFile strutsDefault = myFixture.findFileInTempDir("struts-default.xml");
+    final VirtualFile strutsParam = myFixture.copyFileToProject("struts-param.xml");
+
+    final StrutsManager strutsManager = StrutsManager.getInstance(getProject());
+    assertTrue(strutsManager.isConfiguredInFileSet(getModule(), strutsDefault));
+    assertFalse(strutsManager.isConfiguredInFileSet(getModule(), strutsParam));
+
+    final StrutsFacetConfiguration configuration = StrutsFacet.getInstance(getModule()).getConfiguration();
+    final StrutsFileSet original = configuration.getFileSets().iterator().next();
+    final StrutsFileSet edited = new StrutsFileSet(original);
+    edited.removeFile(ContainerUtil.find(edited.getFiles(), pointer -> strutsDefault.equals(pointer.getFile())));
+    edited.addFile(strutsParam);
+    assertEquals(original.getModificationCount(), edited.getModificationCount());
+
+    configuration.getFileSets().clear();
+    configuration.getFileSets().add(edited);
+    configuration.setModified();
+
+    assertTrue(strutsManager.isConfiguredInFileSet(getModule(), strutsSimple));
+    assertFalse(strutsManager.isConfiguredInFileSet(getModule(), strutsDefault));
+    assertTrue(strutsManager.isConfiguredInFileSet(getModule(), strutsParam));
+  }
+
   private void assertIntentionFound(IntentionAction intentionAction) {
     assertNotNull(toString(myFixture.getAvailableIntentions()), intentionAction);
   }
@@ -47,6 +47,10 @@ public class StrutsDomStubTest extends DomStubTest {
                           Element:struts namespace:action
                             Attribute:name:action
                             Attribute:class:MyActionClass
+                            Attribute:method:myMethod
+                            Element:result
+                              Attribute:name:input
+                              Attribute:type:resultType
                     """);
   }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 The authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.struts2.dom.inspection;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.intellij.struts2.BasicLightHighlightingTestCase;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.util.PathUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests {@link Struts2BatchValidationStarter} and its JSON report.
+ */
+public class Struts2BatchValidationStarterTest extends BasicLightHighlightingTestCase {
+
+  @NotNull
+  @Override
+  protected String getTestDataLocation() {
+    return "batchValidation";
+  }
+
+  public void testJsonReport() throws Exception {
+    createFixture();
+
+    final StringBuilder out = new StringBuilder();
+    assertTrue(Struts2BatchValidationStarter.validateProject(getProject(), "fixture", 1, out));
+
+    final JsonObject report = JsonParser.parseString(out.toString()).getAsJsonObject();
+    assertEquals("fixture", report.get("project").getAsString());
+    assertEquals(1, report.get("threads").getAsInt());
+    assertTrue(report.get("totalMillis").getAsLong() >= 0);
+
+    final Map<String, JsonObject> files = new HashMap<>();
+    for (final JsonElement element : report.getAsJsonArray("files")) {
+      final JsonObject file = element.getAsJsonObject();
+      files.put(PathUtil.getFileName(file.get("path").getAsString()), file);
+
+      assertEquals(getModule().getName(), file.get("module").getAsString());
+      assertTrue(file.get("millis").getAsLong() >= 0);
+    }
+    assertSameElements(files.keySet(), "struts-batch.xml", "MyAction-validation.xml");
+
+    final JsonArray strutsProblems = files.get("struts-batch.xml").getAsJsonArray("problems");
+    assertEquals(1, strutsProblems.size());
+    final JsonObject problem = strutsProblems.get(0).getAsJsonObject();
+    assertEquals(new Struts2ModelInspection().getShortName(), problem.get("inspection").getAsString());
+    assertEquals(11, problem.get("line").getAsInt());
+    assertEquals("Namespace must start with '/'", problem.get("message").getAsString());
+
+    assertEquals(0, files.get("MyAction-validation.xml").getAsJsonArray("problems").size());
+  }
+
+  public void testRunWithoutProjectPath() throws Exception {
+    assertEquals(2, Struts2BatchValidationStarter.run(List.of("struts2-validate", "--threads", "2")));
+  }
+
+  public void testRunWritesOutputFile() throws Exception {
+    createFixture();
+
+    final File output = FileUtil.createTempFile("struts2-validate", ".json", true);
+    final Struts2BatchValidationStarter.Options options = Struts2BatchValidationStarter.Options.parse(
+      List.of("struts2-validate", "--threads", "0", "fixture", "--output", output.getPath()));
+    assertNotNull(options);
+    assertEquals(1, Struts2BatchValidationStarter.run(getProject(), options));
+
+    final JsonObject report = JsonParser.parseString(FileUtil.loadFile(output, StandardCharsets.UTF_8)).getAsJsonObject();
+    assertEquals("fixture", report.get("project").getAsString());
+    assertEquals(1, report.get("threads").getAsInt());
+    assertEquals(2, report.getAsJsonArray("files").size());
+  }
+
+  public void testRunWithoutProblems() throws Exception {
+    createStrutsFileSet("struts-batch-valid.xml");
+    myFixture.copyFileToProject("com/MyAction.java");
+    myFixture.copyFileToProject("com/MyAction-validation.xml");
+
+    final File output = FileUtil.createTempFile("struts2-validate", ".json", true);
+    final Struts2BatchValidationStarter.Options options = Struts2BatchValidationStarter.Options.parse(
+      List.of("struts2-validate", "fixture", "--output", output.getPath()));
+    assertNotNull(options);
+    assertEquals(0, Struts2BatchValidationStarter.run(getProject(), options));
+  }
+
+  private void createFixture() {
+    createStrutsFileSet("struts-batch.xml");
+    myFixture.copyFileToProject("com/MyAction.java");
+    myFixture.copyFileToProject("com/MyAction-validation.xml");
+  }
+}
@@ -54,6 +54,10 @@ public class StrutsHighlightingTest extends StrutsLightHighlightingTestCase {
     performHighlightingTest("struts-interceptor-ref.xml");
   }
 
+  public void testPackageCyclicHierarchy() {
+    performHighlightingTest("struts-package-cyclic.xml");
+  }
+
   public void testStrutsDefault() {
     performHighlightingTest("struts-default.xml");
   }
@@ -57,6 +57,25 @@ public class ActionImplUtilTest {
     assertFalse(ActionImplUtil.matchesPath("some*Action*Stuff", "some/Action/Stuff"));
   }
 
+  @Test
+  public void matchesPathDoubleWildcard() {
+    assertTrue(ActionImplUtil.matchesPath("some/**", "some/"));
+    assertTrue(ActionImplUtil.matchesPath("some/**", "some/Thing"));
+    assertTrue(ActionImplUtil.matchesPath("some/**", "some/T/ing"));
+    assertTrue(ActionImplUtil.matchesPath("**_*", "some/T_ing"));
+
+    assertFalse(ActionImplUtil.matchesPath("some/**", "someThing"));
+    assertFalse(ActionImplUtil.matchesPath("**_*", "some_T/ing"));
+  }
+
+  @Test
+  public void matchesPathLiteralCharacters() {
+    assertTrue(ActionImplUtil.matchesPath("some.*", "some.Thing"));
+    assertTrue(ActionImplUtil.matchesPath("some[*]", "some[Thing]"));
+
+    assertFalse(ActionImplUtil.matchesPath("some.*", "someXThing"));
+  }
+
   @Test
   public void matchesPathBangNotation() {
 
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 The authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.struts2.dom.struts.impl;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.struts2.BasicLightHighlightingTestCase;
+import com.intellij.struts2.dom.struts.StrutsRoot;
+import com.intellij.struts2.dom.struts.model.StrutsManager;
+import com.intellij.struts2.dom.struts.model.StrutsModel;
+import com.intellij.struts2.dom.struts.strutspackage.StrutsPackage;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.xml.DomFileElement;
+import com.intellij.util.xml.DomManager;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Tests caching of {@link StrutsPackage} hierarchy in {@link StrutsPackageImpl}.
+ */
+public class StrutsPackageImplTest extends BasicLightHighlightingTestCase {
+
+  private static final String STRUTS_PACKAGE_HIERARCHY_XML = "struts-package-hierarchy.xml";
+
+  @NotNull
+  @Override
+  protected String getTestDataLocation() {
+    return "strutsXml/packageHierarchy";
+  }
+
+  public void testHierarchyInModel() {
+    createStrutsFileSet(STRUTS_PACKAGE_HIERARCHY_XML);
+
+    final StrutsModel model = StrutsManager.getInstance(getProject()).getCombinedModel(getModule());
+    assertNotNull(model);
+    final StrutsPackage child = findPackage(model.getStrutsPackages(), "child");
+
+    final List<StrutsPackage> hierarchy = child.searchPackageHierarchy();
+    assertSame(hierarchy, child.searchPackageHierarchy());
+    assertEquals(2, hierarchy.size());
+    assertEquals("/base", child.searchNamespace());
+
+    final XmlFile xmlFile = (XmlFile)myFixture.getPsiManager().findFile(myFixture.findFileInTempDir(STRUTS_PACKAGE_HIERARCHY_XML));
+    assertNotNull(xmlFile);
+    final Document document = PsiDocumentManager.getInstance(getProject()).getDocument(xmlFile);
+    assertNotNull(document);
+    final int offset = document.getText().indexOf("/base");
+    WriteCommandAction.runWriteCommandAction(getProject(), () -> document.replaceString(offset, offset + "/base".length(), "/changed"));
+    PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+
+    assertEquals("/changed", findPackage(model.getStrutsPackages(), "child").searchNamespace());
+  }
+
+  public void testHierarchyWithoutModel() {
+    final XmlFile xmlFile = (XmlFile)myFixture.configureByFile(STRUTS_PACKAGE_HIERARCHY_XML);
+    final DomFileElement<StrutsRoot> fileElement = DomManager.getDomManager(getProject()).getFileElement(xmlFile, StrutsRoot.class);
+    assertNotNull(fileElement);
+
+    final StrutsPackage base = findPackage(fileElement.getRootElement().getPackages(), "base");
+    final List<StrutsPackage> hierarchy = base.searchPackageHierarchy();
+    assertSame(hierarchy, base.searchPackageHierarchy());
+    assertEquals("/base", base.searchNamespace());
+  }
+
+  private static StrutsPackage findPackage(final List<StrutsPackage> strutsPackages, final String name) {
+    final StrutsPackage strutsPackage = ContainerUtil.find(strutsPackages, each -> name.equals(each.getName().getStringValue()));
+    assertNotNull(name, strutsPackage);
+    return strutsPackage;
+  }
+}
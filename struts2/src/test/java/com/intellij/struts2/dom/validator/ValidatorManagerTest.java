@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 The authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.intellij.struts2.dom.validator;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.struts2.BasicLightHighlightingTestCase;
+import com.intellij.struts2.dom.validator.config.ValidatorConfig;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Tests for {@link ValidatorManager} validator lookup.
+ */
+public class ValidatorManagerTest extends BasicLightHighlightingTestCase {
+
+  @NotNull
+  @Override
+  protected String getTestDataLocation() {
+    return "validationXml/manager";
+  }
+
+  public void testFindValidatorCustomOverridesDefault() {
+    myFixture.copyFileToProject("validators.xml");
+
+    final ValidatorManager validatorManager = ValidatorManager.getInstance(getProject());
+    assertValidatorClass(validatorManager.findValidator(getModule(), "email"),
+                         "com.opensymphony.xwork2.validator.validators.RequiredStringValidator");
+    assertValidatorClass(validatorManager.findValidator(getModule(), "required"),
+                         "com.opensymphony.xwork2.validator.validators.RequiredFieldValidator");
+    assertValidatorClass(validatorManager.findValidator(getModule(), "custom"),
+                         "com.opensymphony.xwork2.validator.validators.RequiredFieldValidator");
+    assertNull(validatorManager.findValidator(getModule(), "unknown"));
+  }
+
+  public void testValidatorsCachedAcrossUnrelatedEdits() {
+    myFixture.copyFileToProject("validators.xml");
+    // create up front, adding files changes VFS structure
+    final VirtualFile otherXml = myFixture.addFileToProject("other.xml", "<root></root>").getVirtualFile();
+
+    final ValidatorManager validatorManager = ValidatorManager.getInstance(getProject());
+    final List<ValidatorConfig> validators = validatorManager.getValidators(getModule());
+
+    myFixture.configureFromExistingVirtualFile(otherXml);
+    myFixture.getEditor().getCaretModel().moveToOffset("<root>".length());
+    myFixture.type("<child/>");
+    PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+    assertSame(validators, validatorManager.getValidators(getModule()));
+
+    myFixture.configureFromTempProjectFile("validators.xml");
+    final String text = myFixture.getEditor().getDocument().getText();
+    myFixture.getEditor().getCaretModel().moveToOffset(text.indexOf("\"custom\"") + 1);
+    myFixture.type("my");
+    PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+    assertNull(validatorManager.findValidator(getModule(), "custom"));
+    assertNotNull(validatorManager.findValidator(getModule(), "mycustom"));
+  }
+
+  private static void assertValidatorClass(final ValidatorConfig validatorConfig, final String expectedClassName) {
+    assertNotNull(validatorConfig);
+    final PsiClass validatorClass = validatorConfig.getValidatorClass().getValue();
+    assertNotNull(validatorClass);
+    assertEquals(expectedClassName, validatorClass.getQualifiedName());
+  }
+}
@@ -16,6 +16,7 @@
 package com.intellij.struts2.facet.ui;
 
 import com.intellij.struts2.BasicLightHighlightingTestCase;
+import com.intellij.struts2.facet.StrutsVersionManager;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -35,4 +36,12 @@ public class StrutsVersionDetectorTest extends BasicLightHighlightingTestCase {
     final String version = StrutsVersionDetector.detectStrutsVersion(getModule());
     assertEquals(STRUTS2_VERSION, version);
   }
+
+  public void testStrutsVersionManager() {
+    final StrutsVersionManager versionManager = StrutsVersionManager.getInstance(getModule());
+    assertEquals(STRUTS2_VERSION, versionManager.getVersion());
+    assertTrue(versionManager.isAtLeast(STRUTS2_VERSION));
+    assertTrue(versionManager.isNewerThan("2.0.8"));
+    assertFalse(versionManager.isNewerThan(STRUTS2_VERSION));
+  }
 }
\ No newline at end of file
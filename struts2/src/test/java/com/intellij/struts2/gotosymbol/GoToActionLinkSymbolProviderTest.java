@@ -15,12 +15,22 @@
 
 package com.intellij.struts2.gotosymbol;
 
+import com.intellij.navigation.NavigationItem;
 import com.intellij.openapi.module.Module;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.xml.XmlTag;
 import com.intellij.struts2.BasicLightHighlightingTestCase;
+import com.intellij.struts2.dom.struts.model.StrutsManager;
+import com.intellij.struts2.dom.struts.model.StrutsModel;
+import com.intellij.struts2.dom.struts.model.StrutsPackageIndex;
 import com.intellij.testFramework.fixtures.JavaCodeInsightTestFixture;
+import com.intellij.util.containers.ContainerUtil;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -52,6 +62,65 @@ public class GoToActionLinkSymbolProviderTest extends BasicLightHighlightingTest
     assertContainsElements(names, "rootAction.do");
   }
 
+  public void testActionLinkItems() throws Throwable {
+    createStrutsFileSet("struts-actionLink.xml");
+
+    final GoToActionLinkSymbolProvider provider = new GoToActionLinkSymbolProvider();
+    final Module module = myFixture.getModule();
+
+    final List<NavigationItem> items = new ArrayList<>();
+    provider.addItems(module, "/testNamespace/testAction.do", items);
+    assertNotEmpty(items);
+    assertEquals("/testNamespace/testAction.do → testAction [/testNamespace]", items.get(0).getName());
+  }
+
+  public void testIndexAndModelReturnSameOrder() {
+    createStrutsFileSet("struts-actionLink-order.xml");
+
+    final Module module = myFixture.getModule();
+    final StrutsModel model = StrutsManager.getInstance(getProject()).getCombinedModel(module);
+    assertNotNull(model);
+
+    final List<String> modelActions = new ArrayList<>();
+    model.processActions(action -> {
+      modelActions.add(action.getStrutsPackage().getName().getStringValue() + ":" + action.getName().getStringValue());
+      return true;
+    });
+    final List<String> indexedActions =
+      ContainerUtil.map(StrutsPackageIndex.getActions(module), action -> action.getPackageName() + ":" + action.getName());
+    assertEquals(modelActions, indexedActions);
+
+    // resolved via index
+    assertFirstItemInPackage(module, "/order/duplicate.action", "first");
+    // wildcard namespace, resolved via model
+    assertFirstItemInPackage(module, "/wildcard/duplicate.action", "wildcardFirst");
+  }
+
+  public void testIndexedActionLookup() {
+    createStrutsFileSet("struts-actionLink-order.xml");
+
+    final Module module = myFixture.getModule();
+    assertEquals(Arrays.asList("first", "second"),
+                 ContainerUtil.map(StrutsPackageIndex.findActions(module, "/order", "duplicate"),
+                                   StrutsPackageIndex.IndexedAction::getPackageName));
+    assertEmpty(StrutsPackageIndex.findActions(module, "/order", "unknown"));
+    assertEmpty(StrutsPackageIndex.findActions(module, "/unknown", "duplicate"));
+
+    assertFalse(StrutsPackageIndex.hasWildcardActions(module, "/order"));
+    assertTrue(StrutsPackageIndex.hasWildcardActions(module, "/wildcard"));
+  }
+
+  private static void assertFirstItemInPackage(final Module module, final String url, final String packageName) {
+    final List<NavigationItem> items = new ArrayList<>();
+    new GoToActionLinkSymbolProvider().addItems(module, url, items);
+    assertNotEmpty(items);
+
+    final PsiElement navigationElement = ((PsiElement)items.get(0)).getNavigationElement();
+    final XmlTag packageTag = assertInstanceOf(navigationElement, XmlTag.class).getParentTag();
+    assertNotNull(packageTag);
+    assertEquals(packageName, packageTag.getAttributeValue("name"));
+  }
+
   @NotNull
   protected String getTestDataBasePath() {
     return "/contrib/struts2/plugin/src/test/testData";
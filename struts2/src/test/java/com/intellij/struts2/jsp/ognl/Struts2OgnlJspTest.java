@@ -14,15 +14,29 @@
  */
 package com.intellij.struts2.jsp.ognl;
 
+import com.intellij.lang.injection.InjectedLanguageManager;
+import com.intellij.lang.ognl.psi.OgnlExpression;
+import com.intellij.lang.ognl.psi.resolve.OgnlTypeResolver;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.struts2.BasicLightHighlightingTestCase;
 import com.intellij.testFramework.LightProjectDescriptor;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * @author Yann C&eacute;bron
  */
 public class Struts2OgnlJspTest extends BasicLightHighlightingTestCase {
 
+  /**
+   * Mapped as action result in {@code struts-action-root.xml}, content is set per test.
+   */
+  private static final String ACTION_ROOT_TYPES_JSP = "action-root-types.jsp";
+
   @Override
   @NotNull
   protected String getTestDataLocation() {
@@ -54,4 +68,163 @@ public class Struts2OgnlJspTest extends BasicLightHighlightingTestCase {
     myFixture.copyDirectoryToProject("WEB-INF", "WEB-INF");
     myFixture.testHighlighting(true, true, false, "taglib-ognl-injection.jsp");
   }
+
+  /**
+   * @see com.intellij.struts2.jsp.ognl.OgnlStruts2ActionRootTypeProvider
+   */
+  public void testActionRootCompletion() {
+    performActionRootSetUp();
+
+    myFixture.configureByFile("action-root-completion.jsp");
+    myFixture.completeBasic();
+    assertContainsElements(myFixture.getLookupElementStrings(), "active", "address", "age", "name");
+  }
+
+  public void testActionRootProjectionCompletion() {
+    performActionRootSetUp();
+
+    myFixture.configureByFile("action-root-projection-completion.jsp");
+    myFixture.completeBasic();
+    assertContainsElements(myFixture.getLookupElementStrings(), "active", "address", "age", "name");
+  }
+
+  public void testActionRootResolve() {
+    performActionRootSetUp();
+
+    myFixture.configureByFile("action-root-resolve.jsp");
+    final PsiMethod method = assertInstanceOf(myFixture.getElementAtCaret(), PsiMethod.class);
+    assertEquals("getStreet", method.getName());
+  }
+
+  public void testActionRootMethodCallResolve() {
+    performActionRootSetUp();
+
+    assertEquals(1, resolveActionRootMethod("findUs<caret>er('x')").getParameterList().getParametersCount());
+    assertEquals(2, resolveActionRootMethod("findUs<caret>er('x', 1)").getParameterList().getParametersCount());
+  }
+
+  public void testActionRootMethodCallType() {
+    performActionRootSetUp();
+
+    assertActionRootType("User", "findUser('x')");
+    assertActionRootType("java.util.List<User>", "findUser('x', 1)");
+    assertActionRootType(null, "findUser('x', 1, 2)");
+  }
+
+  public void testActionRootSelectionResolve() {
+    performActionRootSetUp();
+
+    assertEquals("isActive", resolveActionRootMethod("users.{? #this.act<caret>ive}").getName());
+    assertEquals("getAge", resolveActionRootMethod("userArray.{^ #this.a<caret>ge > 18}").getName());
+  }
+
+  public void testActionRootSelectionType() {
+    performActionRootSetUp();
+
+    assertActionRootType("java.util.List<User>", "users.{? #this.active}");
+    assertActionRootType("User", "users.{^ #this.active}");
+    assertActionRootType("User", "users.{$ #this.active}");
+    assertActionRootType("User", "userArray.{^ #this.active}");
+  }
+
+  public void testActionRootIndexedType() {
+    performActionRootSetUp();
+
+    assertActionRootType("User", "users[0]");
+    assertActionRootType("Address", "users[0].address");
+    assertActionRootType("User", "userArray[1]");
+    assertActionRootType("java.lang.String", "userArray[1].name");
+    assertActionRootType("int", "userArray.length");
+    assertActionRootType("User", "usersByName['x']");
+    assertActionRootType("int", "usersByName['x'].age");
+  }
+
+  public void testActionRootVariableResolve() {
+    performActionRootSetUp();
+
+    assertEquals("getName", resolveActionRootMethod("#root.user.na<caret>me").getName());
+    assertEquals("getUser", resolveActionRootMethod("#this.us<caret>er").getName());
+  }
+
+  public void testActionRootVariableType() {
+    performActionRootSetUp();
+
+    assertActionRootType("UserAction", "#root");
+    assertActionRootType("UserAction", "#this");
+    assertActionRootType("User", "#root.user");
+    assertActionRootType("java.util.List<java.lang.Integer>", "users.{#this.age}");
+  }
+
+  public void testActionRootMapValue() {
+    performActionRootSetUp();
+
+    assertActionRootType("User", "usersByName.anyKey");
+    assertActionRootType("Address", "usersByName.anyKey.address");
+    assertEquals("getAddress", resolveActionRootMethod("usersByName.anyKey.addr<caret>ess").getName());
+  }
+
+  public void testActionRootStaticReference() {
+    performActionRootSetUp();
+
+    assertActionRootType(null, "@java.lang.Math@PI");
+
+    final OgnlExpression expression = findActionRootExpression();
+    final PsiReference[] references = expression.getReferences();
+    assertEquals(1, references.length);
+    assertSame(expression, references[0].resolve());
+  }
+
+  public void testActionRootRenameGetter() {
+    performActionRootSetUp();
+
+    final PsiMethod getter = resolveActionRootMethod("user.address.str<caret>eet");
+    myFixture.renameElement(getter, "getLocation");
+    myFixture.checkResult(createActionRootJsp("user.address.location"));
+  }
+
+  public void testActionRootRenameMethod() {
+    performActionRootSetUp();
+
+    // no getter, new name is used as is
+    final PsiMethod method = resolveActionRootMethod("gr<caret>eet('x')");
+    myFixture.renameElement(method, "getWelcome");
+    myFixture.checkResult(createActionRootJsp("getWelcome('x')"));
+  }
+
+  private void assertActionRootType(@Nullable final String expectedType, final String ognl) {
+    configureActionRoot("<caret>" + ognl);
+    final PsiType type = OgnlTypeResolver.getType(findActionRootExpression());
+    assertEquals(ognl, expectedType, type != null ? type.getCanonicalText() : null);
+  }
+
+  private PsiMethod resolveActionRootMethod(final String ognl) {
+    configureActionRoot(ognl);
+    return assertInstanceOf(myFixture.getElementAtCaret(), PsiMethod.class);
+  }
+
+  /**
+   * @return Outermost OGNL expression at caret.
+   */
+  private OgnlExpression findActionRootExpression() {
+    final PsiElement injected =
+      InjectedLanguageManager.getInstance(getProject()).findInjectedElementAt(myFixture.getFile(), myFixture.getCaretOffset());
+    final OgnlExpression expression = PsiTreeUtil.getTopmostParentOfType(injected, OgnlExpression.class);
+    assertNotNull(expression);
+    return expression;
+  }
+
+  private void configureActionRoot(final String ognl) {
+    myFixture.configureByText(ACTION_ROOT_TYPES_JSP, createActionRootJsp(ognl));
+  }
+
+  private static String createActionRootJsp(final String ognl) {
+    return "<%@ taglib prefix=\"s\" uri=\"/struts-tags\" %>\n\n<s:property value=\"%{" + ognl + "}\"/>";
+  }
+
+  private void performActionRootSetUp() {
+    createStrutsFileSet("struts-action-root.xml");
+    myFixture.copyFileToProject("UserAction.java");
+    myFixture.copyFileToProject("User.java");
+    myFixture.copyFileToProject("Address.java");
+  }
 }
@@ -16,10 +16,13 @@
 package com.intellij.struts2.model.constant;
 
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDocumentManager;
 import com.intellij.struts2.model.constant.contributor.StrutsCoreConstantContributor;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Tests for {@link com.intellij.struts2.model.constant.StrutsConstantManager} with custom constant property in
@@ -45,4 +48,37 @@ public class StrutsConstantManagerWithStrutsPropertiesTest extends StrutsConstan
     final VirtualFile strutsXmlFile = myFixture.findFileInTempDir(STRUTS_XML);
     performResolveTest(strutsXmlFile, StrutsCoreConstantContributor.ACTION_EXTENSION, Arrays.asList("foo"));
   }
-}
\ No newline at end of file
+
+  /**
+   * Editing JSPs or Java sources must not invalidate cached action extensions.
+   */
+  public void testActionExtensionsCachedAcrossUnrelatedEdits() {
+    myFixture.copyFileToProject("struts.properties");
+    createStrutsFileSet(STRUTS_XML);
+    // create all files up front, adding files changes VFS structure
+    final VirtualFile jspFile = myFixture.addFileToProject("edit.jsp", "<html></html>").getVirtualFile();
+    final VirtualFile javaFile = myFixture.addFileToProject("Edit.java", "class Edit {}").getVirtualFile();
+
+    final List<String> actionExtensions = StrutsConstantHelper.getActionExtensions(getModule());
+    assertEquals(Collections.singletonList(".foo"), actionExtensions);
+
+    typeAt(jspFile, "<html>".length(), "<body/>");
+    assertSame(actionExtensions, StrutsConstantHelper.getActionExtensions(getModule()));
+
+    typeAt(javaFile, "class Edit {".length(), "int i;");
+    assertSame(actionExtensions, StrutsConstantHelper.getActionExtensions(getModule()));
+
+    myFixture.configureFromTempProjectFile("struts.properties");
+    myFixture.getEditor().getCaretModel().moveToOffset(myFixture.getEditor().getDocument().getTextLength());
+    myFixture.type("bar");
+    PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+    assertEquals(Collections.singletonList(".foobar"), StrutsConstantHelper.getActionExtensions(getModule()));
+  }
+
+  private void typeAt(final VirtualFile file, final int offset, final String text) {
+    myFixture.configureFromExistingVirtualFile(file);
+    myFixture.getEditor().getCaretModel().moveToOffset(offset);
+    myFixture.type(text);
+    PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+  }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026 The authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.intellij.struts2.performance;
+
+import com.intellij.codeInsight.daemon.impl.analysis.HtmlUnknownTargetInspection;
+import com.intellij.lang.annotation.HighlightSeverity;
+import com.intellij.navigation.NavigationItem;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.struts2.BasicLightHighlightingTestCase;
+import com.intellij.struts2.dom.struts.model.StrutsManager;
+import com.intellij.struts2.dom.struts.model.StrutsModel;
+import com.intellij.struts2.gotosymbol.GoToActionLinkSymbolProvider;
+import com.intellij.testFramework.LightProjectDescriptor;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Latency benchmarks over a {@link SyntheticStrutsProject}.
+ * <p/>
+ * Disabled by default, run via {@code ./gradlew test --tests "com.intellij.struts2.performance.*" -Pstruts2.performance=true}.
+ * Only relative checks are made, so no machine-specific timings are needed:
+ * <ul>
+ * <li>scaling: doubling the number of packages may increase the median at most by factor
+ * {@code struts2.performance.maxScaling} (default 3, i.e. linear plus noise)</li>
+ * <li>caching: repeated calls without modification must be faster than after a {@code struts.xml} change by factor
+ * {@code struts2.performance.minCacheSpeedup} (default 2)</li>
+ * </ul>
+ */
+public class StrutsPerformanceTest extends BasicLightHighlightingTestCase {
+
+  private static final Logger LOG = Logger.getInstance(StrutsPerformanceTest.class);
+
+  @NonNls
+  private static final String PROPERTY_PREFIX = "struts2.performance";
+
+  private static final boolean ENABLED = Boolean.getBoolean(PROPERTY_PREFIX);
+  private static final double MAX_SCALING =
+    Double.parseDouble(System.getProperty(PROPERTY_PREFIX + ".maxScaling", "3"));
+  private static final double MIN_CACHE_SPEEDUP =
+    Double.parseDouble(System.getProperty(PROPERTY_PREFIX + ".minCacheSpeedup", "2"));
+
+  private static final int WARM_UP_ITERATIONS = 2;
+  private static final int ITERATIONS = 5;
+
+  /**
+   * Medians below are dominated by timer resolution and GC noise, compare against this instead (in µs).
+   */
+  private static final long MIN_MEASURABLE_MICROS = 1_000;
+
+  private SyntheticStrutsProject mySyntheticProject;
+  private VirtualFile myStrutsXml;
+
+  @NotNull
+  @Override
+  protected String getTestDataLocation() {
+    return "performance";
+  }
+
+  @NotNull
+  @Override
+  protected LightProjectDescriptor getProjectDescriptor() {
+    return WEB;
+  }
+
+  @Override
+  protected boolean shouldRunTest() {
+    return ENABLED && super.shouldRunTest();
+  }
+
+  @Override
+  protected void performSetUp() {
+    mySyntheticProject = SyntheticStrutsProject.fromSystemProperties();
+
+    myStrutsXml = myFixture.addFileToProject(STRUTS_XML, mySyntheticProject.createStrutsXml()).getVirtualFile();
+    createStrutsFileSet(myStrutsXml);
+
+    myFixture.addFileToProject("index.jsp", "");
+    for (final String staticResource : SyntheticStrutsProject.STATIC_RESOURCES) {
+      myFixture.addFileToProject(staticResource, "");
+    }
+    for (int i = 0; i < mySyntheticProject.getJsps(); i++) {
+      myFixture.addFileToProject(mySyntheticProject.getJspName(i), mySyntheticProject.createJsp(i));
+    }
+  }
+
+  public void testModelBuild() {
+    assertScaling("modelBuild",
+                  () -> appendWhitespace(getStrutsXmlDocument()),
+                  () -> assertEquals(mySyntheticProject.getPackages() * mySyntheticProject.getActionsPerPackage(),
+                                     getModel().getActionsForNamespace(null).size()));
+  }
+
+  public void testActionResolve() {
+    assertCacheSpeedup("actionResolve", () -> {
+      final StrutsModel model = getModel();
+      for (int p = 0; p < mySyntheticProject.getPackages(); p++) {
+        final String namespace = mySyntheticProject.getNamespace(p);
+        for (int a = 0; a < mySyntheticProject.getActionsPerPackage(); a++) {
+          final String name = mySyntheticProject.getLinkActionName(p, a);
+          assertFalse(namespace + "/" + name, model.findActionsByName(name, namespace).isEmpty());
+        }
+      }
+    });
+  }
+
+  public void testJspHighlighting() {
+    myFixture.enableInspections(new HtmlUnknownTargetInspection());
+    myFixture.configureFromTempProjectFile(mySyntheticProject.getJspName(0));
+
+    assertScaling("jspHighlighting",
+                  () -> appendWhitespace(myFixture.getEditor().getDocument()),
+                  () -> assertEmpty(myFixture.doHighlighting(HighlightSeverity.WARNING)));
+  }
+
+  public void testCompletion() {
+    final int lastAction = mySyntheticProject.getActionsPerPackage() - 1;
+    final String expected = mySyntheticProject.getLinkActionName(0, lastAction) + ".action";
+
+    assertScaling("completion",
+                  () -> myFixture.configureByText("completion.jsp",
+                                                  "<a href=\"" + mySyntheticProject.getNamespace(0) + "/<caret>\"/>"),
+                  () -> {
+                    myFixture.completeBasic();
+                    assertContainsElements(myFixture.getLookupElementStrings(), expected);
+                  });
+  }
+
+  public void testGoToSymbol() {
+    final int lastAction = mySyntheticProject.getActionsPerPackage() - 1;
+    final String name = mySyntheticProject.getNamespace(0) + "/" +
+                        mySyntheticProject.getLinkActionName(0, lastAction) + ".action";
+    final GoToActionLinkSymbolProvider provider = new GoToActionLinkSymbolProvider();
+
+    assertCacheSpeedup("goToSymbol", () -> {
+      assertContainsElements(Arrays.asList(provider.getNames(getProject(), false)), name);
+      final NavigationItem[] items = provider.getItemsByName(name, name, getProject(), false);
+      assertTrue(items.length > 0);
+    });
+  }
+
+  private Document getStrutsXmlDocument() {
+    final Document document = FileDocumentManager.getInstance().getDocument(myStrutsXml);
+    assertNotNull(document);
+    return document;
+  }
+
+  private StrutsModel getModel() {
+    final StrutsModel model = StrutsManager.getInstance(getProject()).getCombinedModel(getModule());
+    assertNotNull(model);
+    return model;
+  }
+
+  private void appendWhitespace(final Document document) {
+    WriteCommandAction.runWriteCommandAction(getProject(), () -> document.insertString(document.getTextLength(), " "));
+    PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+  }
+
+  /**
+   * Replaces {@code struts.xml} with a project having twice the number of packages.
+   * Namespaces/actions of the original project are retained, so existing JSPs stay valid.
+   */
+  private void doubleProject() {
+    mySyntheticProject = mySyntheticProject.withPackages(mySyntheticProject.getPackages() * 2);
+    final Document document = getStrutsXmlDocument();
+    WriteCommandAction.runWriteCommandAction(getProject(), () -> document.setText(mySyntheticProject.createStrutsXml()));
+    PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+  }
+
+  /**
+   * Checks {@code measured} scales at most linearly (within {@link #MAX_SCALING}) when doubling the project.
+   *
+   * @param name     Benchmark name.
+   * @param setUp    Run before each iteration, not measured.
+   * @param measured Code to measure.
+   */
+  private void assertScaling(@NonNls final String name, @Nullable final Runnable setUp, final Runnable measured) {
+    final String smallProject = mySyntheticProject.toString();
+    final long small = median(setUp, measured);
+
+    doubleProject();
+    final long large = median(setUp, measured);
+
+    final String message = name + ": " + smallProject + "=" + small + "\u00b5s, " + mySyntheticProject + "=" + large + "\u00b5s";
+    LOG.info(message);
+    assertTrue(message + " exceeds scaling factor " + MAX_SCALING,
+               large <= Math.max(small, MIN_MEASURABLE_MICROS) * MAX_SCALING);
+  }
+
+  /**
+   * Checks repeated {@code measured} without modification is faster than after a {@code struts.xml} change
+   * (by at least {@link #MIN_CACHE_SPEEDUP}).
+   *
+   * @param name     Benchmark name.
+   * @param measured Code to measure.
+   */
+  private void assertCacheSpeedup(@NonNls final String name, final Runnable measured) {
+    final long cold = median(() -> appendWhitespace(getStrutsXmlDocument()), measured);
+    final long cached = median(null, measured);
+
+    final String message = name + "." + mySyntheticProject + ": cold=" + cold + "\u00b5s, cached=" + cached + "\u00b5s";
+    LOG.info(message);
+    assertTrue(message + " is below cache speed-up " + MIN_CACHE_SPEEDUP,
+               cold <= MIN_MEASURABLE_MICROS || cached * MIN_CACHE_SPEEDUP <= cold);
+  }
+
+  /**
+   * Runs {@code measured} after warm-up.
+   *
+   * @param setUp    Run before each iteration, not measured.
+   * @param measured Code to measure.
+   * @return Median in µs.
+   */
+  private static long median(@Nullable final Runnable setUp, final Runnable measured) {
+    for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+      if (setUp != null) setUp.run();
+      measured.run();
+    }
+
+    final long[] micros = new long[ITERATIONS];
+    for (int i = 0; i < ITERATIONS; i++) {
+      if (setUp != null) setUp.run();
+      final long start = System.nanoTime();
+      measured.run();
+      micros[i] = (System.nanoTime() - start) / 1_000;
+    }
+    Arrays.sort(micros);
+    return micros[ITERATIONS / 2];
+  }
+}
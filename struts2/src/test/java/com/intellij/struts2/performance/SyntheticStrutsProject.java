@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 The authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.intellij.struts2.performance;
+
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Generates a synthetic Struts project: {@code struts.xml} with N packages of M actions each (some of them wildcard
+ * mappings) and K JSPs containing L action links (plus one link to a {@link #STATIC_RESOURCES static resource}) each.
+ * <p/>
+ * All sizes can be overridden via system properties {@code struts2.performance.packages}, {@code .actions},
+ * {@code .wildcardRatio}, {@code .jsps} and {@code .links}.
+ */
+final class SyntheticStrutsProject {
+
+  @NonNls
+  private static final String PROPERTY_PREFIX = "struts2.performance.";
+
+  /**
+   * Referenced from JSPs next to each action link.
+   */
+  @NonNls
+  static final String[] STATIC_RESOURCES = {"css/site.css", "img/logo.png", "js/app.js"};
+
+  private final int myPackages;
+  private final int myActionsPerPackage;
+  private final int myWildcardActionsPerPackage;
+  private final int myJsps;
+  private final int myLinksPerJsp;
+
+  SyntheticStrutsProject(final int packages,
+                         final int actionsPerPackage,
+                         final double wildcardRatio,
+                         final int jsps,
+                         final int linksPerJsp) {
+    myPackages = packages;
+    myActionsPerPackage = actionsPerPackage;
+    myWildcardActionsPerPackage = (int)Math.round(actionsPerPackage * wildcardRatio);
+    myJsps = jsps;
+    myLinksPerJsp = linksPerJsp;
+  }
+
+  static SyntheticStrutsProject fromSystemProperties() {
+    return new SyntheticStrutsProject(Integer.getInteger(PROPERTY_PREFIX + "packages", 50),
+                                      Integer.getInteger(PROPERTY_PREFIX + "actions", 20),
+                                      Double.parseDouble(System.getProperty(PROPERTY_PREFIX + "wildcardRatio", "0.1")),
+                                      Integer.getInteger(PROPERTY_PREFIX + "jsps", 10),
+                                      Integer.getInteger(PROPERTY_PREFIX + "links", 100));
+  }
+
+  /**
+   * @return Same project with the given number of packages, used for scaling checks.
+   */
+  @NotNull
+  SyntheticStrutsProject withPackages(final int packages) {
+    return new SyntheticStrutsProject(packages, myActionsPerPackage,
+                                      (double)myWildcardActionsPerPackage / myActionsPerPackage,
+                                      myJsps, myLinksPerJsp);
+  }
+
+  int getPackages() {
+    return myPackages;
+  }
+
+  int getActionsPerPackage() {
+    return myActionsPerPackage;
+  }
+
+  int getJsps() {
+    return myJsps;
+  }
+
+  @NotNull
+  String getNamespace(final int packageIdx) {
+    return "/ns" + packageIdx;
+  }
+
+  /**
+   * @return Action name as declared in {@code struts.xml}.
+   */
+  @NotNull
+  String getActionName(final int packageIdx, final int actionIdx) {
+    return isWildcard(actionIdx) ? "wild" + actionIdx + "_*" : "action" + actionIdx;
+  }
+
+  /**
+   * @return Action name as used in links (wildcards are expanded).
+   */
+  @NotNull
+  String getLinkActionName(final int packageIdx, final int actionIdx) {
+    return isWildcard(actionIdx) ? "wild" + actionIdx + "_list" : "action" + actionIdx;
+  }
+
+  private boolean isWildcard(final int actionIdx) {
+    return actionIdx < myWildcardActionsPerPackage;
+  }
+
+  @NotNull
+  String createStrutsXml() {
+    final StringBuilder sb = new StringBuilder();
+    sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n")
+      .append("<!DOCTYPE struts PUBLIC\n")
+      .append("    \"-//Apache Software Foundation//DTD Struts Configuration 2.0//EN\"\n")
+      .append("    \"http://struts.apache.org/dtds/struts-2.0.dtd\">\n\n")
+      .append("<struts>\n");
+    for (int p = 0; p < myPackages; p++) {
+      sb.append("  <package name=\"package").append(p).append("\" namespace=\"").append(getNamespace(p)).append("\">\n");
+      for (int a = 0; a < myActionsPerPackage; a++) {
+        sb.append("    <action name=\"").append(getActionName(p, a)).append("\"");
+        if (isWildcard(a)) {
+          sb.append(" method=\"{1}\"");
+        }
+        sb.append(">\n")
+          .append("      <result>/index.jsp</result>\n")
+          .append("    </action>\n");
+      }
+      sb.append("  </package>\n");
+    }
+    sb.append("</struts>\n");
+    return sb.toString();
+  }
+
+  @NotNull
+  String getJspName(final int jspIdx) {
+    return "page" + jspIdx + ".jsp";
+  }
+
+  @NotNull
+  String createJsp(final int jspIdx) {
+    final StringBuilder sb = new StringBuilder();
+    for (int l = 0; l < myLinksPerJsp; l++) {
+      final int linkIdx = jspIdx * myLinksPerJsp + l;
+      final int packageIdx = linkIdx % myPackages;
+      final int actionIdx = (linkIdx * 7) % myActionsPerPackage;
+      sb.append("<a href=\"").append(getNamespace(packageIdx)).append('/')
+        .append(getLinkActionName(packageIdx, actionIdx)).append(".action\"/>\n");
+      sb.append("<img src=\"/").append(STATIC_RESOURCES[l % STATIC_RESOURCES.length]).append("\"/>\n");
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public String toString() {
+    return myPackages + "x" + myActionsPerPackage + "-" + myWildcardActionsPerPackage + "w-" + myJsps + "x" + myLinksPerJsp;
+  }
+}
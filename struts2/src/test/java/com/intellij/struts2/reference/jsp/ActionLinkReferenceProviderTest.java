@@ -25,6 +25,9 @@ import com.intellij.util.xml.DomElement;
 import com.intellij.util.xml.DomManager;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
+import java.util.List;
+
 public class ActionLinkReferenceProviderTest extends BasicLightHighlightingTestCase {
   @NotNull
   @Override
@@ -78,6 +81,19 @@ public class ActionLinkReferenceProviderTest extends BasicLightHighlightingTestC
     checkActionReference("jsp/actionLink-reference_2.jsp", "rootActionLink");
   }
 
+  public void testPossibleActionPath() {
+    final List<String> actionExtensions = Arrays.asList(".action", ".");
+    assertTrue(ActionLinkReferenceProvider.isPossibleActionPath("/actionLink/actionLink1.action", actionExtensions));
+    assertTrue(ActionLinkReferenceProvider.isPossibleActionPath("actionLink1.action?id=1", actionExtensions));
+    assertTrue(ActionLinkReferenceProvider.isPossibleActionPath("/actionLink/actionLink1", actionExtensions));
+    assertTrue(ActionLinkReferenceProvider.isPossibleActionPath("/actionLink/", actionExtensions));
+    assertTrue(ActionLinkReferenceProvider.isPossibleActionPath("", actionExtensions));
+
+    assertFalse(ActionLinkReferenceProvider.isPossibleActionPath("/css/site.css", actionExtensions));
+    assertFalse(ActionLinkReferenceProvider.isPossibleActionPath("/img/a.png", actionExtensions));
+    assertFalse(ActionLinkReferenceProvider.isPossibleActionPath("actionLink1.do", actionExtensions));
+  }
+
   /**
    * Test namespace separation functionality using misc test files.
    */
@@ -0,0 +1,14 @@
+package com;
+
+public class MyAction {
+
+  private String myField;
+
+  public String getMyField() {
+    return myField;
+  }
+
+  public void setMyField(String myField) {
+    this.myField = myField;
+  }
+}
@@ -0,0 +1,7 @@
+public class Address {
+
+  public String getStreet() {
+    return null;
+  }
+
+}
@@ -0,0 +1,19 @@
+public class User {
+
+  public String getName() {
+    return null;
+  }
+
+  public int getAge() {
+    return 0;
+  }
+
+  public boolean isActive() {
+    return true;
+  }
+
+  public Address getAddress() {
+    return null;
+  }
+
+}
@@ -0,0 +1,38 @@
+import java.util.List;
+import java.util.Map;
+
+public class UserAction {
+
+  public User getUser() {
+    return null;
+  }
+
+  public List<User> getUsers() {
+    return null;
+  }
+
+  public User[] getUserArray() {
+    return null;
+  }
+
+  public Map<String, User> getUsersByName() {
+    return null;
+  }
+
+  public User findUser(String name) {
+    return null;
+  }
+
+  public List<User> findUser(String name, int age) {
+    return null;
+  }
+
+  public String greet(String name) {
+    return null;
+  }
+
+  public String execute() {
+    return "success";
+  }
+
+}
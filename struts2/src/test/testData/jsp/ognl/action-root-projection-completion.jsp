@@ -0,0 +1,3 @@
+<%@ taglib prefix="s" uri="/struts-tags" %>
+
+<s:property value="%{users.{<caret>}}"/>
\ No newline at end of file